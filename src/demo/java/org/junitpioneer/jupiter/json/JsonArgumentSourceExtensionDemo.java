@@ -70,6 +70,23 @@ class JsonArgumentSourceExtensionDemo {
 
 	}
 
+	@Nested
+	class FileDemo {
+
+		// @formatter:off
+		// tag::file_source_glob[]
+		@ParameterizedTest
+		@JsonFileSource(
+				value = "glob:src/demo/resources/*.json", parallel = true)
+		void allJedis(
+				@Property("name") String name) {
+			// YOUR TEST CODE HERE
+		}
+		// end::file_source_glob[]
+		// @formatter:on
+
+	}
+
 	@Nested
 	class InlineDemo {
 
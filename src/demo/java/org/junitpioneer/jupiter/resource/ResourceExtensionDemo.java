@@ -59,6 +59,18 @@ public class ResourceExtensionDemo {
 	// end::create_new_resource_with_arg_demo[]
 	// @formatter:on
 
+	// @formatter:off
+	// tag::create_new_resource_with_template_demo[]
+	@Test
+	void testWithTemplate(
+			@New(value = TemporaryDirectory.class, arguments = { "seeded", "src/demo/resources" })
+			Path tempDir) {
+		// Test code goes here, e.g.,
+		assertThat(tempDir.resolve("jedis.json")).exists();
+	}
+	// end::create_new_resource_with_template_demo[]
+	// @formatter:on
+
 	// @formatter:off
 	// tag::create_shared_resource_demo[]
 	@Test
@@ -105,6 +117,26 @@ public class ResourceExtensionDemo {
 	// end::create_multiple_shared_resources_demo[]
 	// @formatter:on
 
+	// @formatter:off
+	// tag::create_pooled_resource_demo[]
+	@Test
+	void pooledResourceTest1(
+			@Pooled(factory = TemporaryDirectory.class, name = "pooledTempDir", size = 2)
+			Path tempDir) {
+		// Test code goes here, e.g.,
+		assertThat(tempDir).isEmptyDirectory();
+	}
+
+	@Test
+	void pooledResourceTest2(
+			@Pooled(factory = TemporaryDirectory.class, name = "pooledTempDir", size = 2)
+			Path tempDir) {
+		// This directory may have been used by "pooledResourceTest1"
+		// but it was emptied after that test.
+	}
+	// end::create_pooled_resource_demo[]
+	// @formatter:on
+
 	@Nested
 	// @formatter:off
 	// tag::create_global_shared_resource_demo_first[]
@@ -143,4 +175,22 @@ public class ResourceExtensionDemo {
 	// end::create_global_shared_resource_demo_second[]
 	// @formatter:on
 
+	@Nested
+	// @formatter:off
+	// tag::warm_up_shared_resources_demo[]
+	@WarmUpSharedResources
+	class WarmUpTest {
+
+		@Test
+		void test(
+				@Shared(factory = TemporaryDirectory.class, name = "warmedUpTempDir")
+				Path tempDir) {
+			// The directory was created in the background
+			// when `WarmUpTest` started.
+		}
+
+	}
+	// end::warm_up_shared_resources_demo[]
+	// @formatter:on
+
 }
@@ -37,7 +37,8 @@ module org.junitpioneer {
 	opens org.junitpioneer.jupiter.displaynamegenerator to org.junit.platform.commons;
 
 	provides org.junit.platform.launcher.TestExecutionListener
-			with org.junitpioneer.jupiter.issue.IssueExtensionExecutionListener;
+			with org.junitpioneer.jupiter.issue.IssueExtensionExecutionListener,
+				org.junitpioneer.jupiter.lock.ResourceLockReportListener;
 	uses org.junitpioneer.jupiter.IssueProcessor;
 
 	provides org.junitpioneer.jupiter.json.ObjectMapperProvider
@@ -15,6 +15,7 @@ import static java.util.stream.Collectors.toMap;
 
 import java.lang.annotation.Annotation;
 import java.lang.reflect.AnnotatedElement;
+import java.lang.reflect.Member;
 import java.lang.reflect.ParameterizedType;
 import java.lang.reflect.Type;
 import java.util.Collection;
@@ -25,6 +26,8 @@ import java.util.List;
 import java.util.Map;
 import java.util.Properties;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 import java.util.function.Function;
 import java.util.stream.Stream;
 
@@ -63,6 +66,26 @@ abstract class AbstractEntryBasedExtension<K, V, C extends Annotation, S extends
 	 */
 	private static final String COMPLETE_KEY = "full";
 
+	// the annotation types never change for an extension type, so its generic superclass is only inspected once
+	private static final ClassValue<AnnotationTypes> ANNOTATION_TYPES = new ClassValue<>() {
+
+		@Override
+		protected AnnotationTypes computeValue(Class<?> extensionType) {
+			return new AnnotationTypes(extensionType);
+		}
+
+	};
+
+	// the entries to clear and set for each annotated element, per extension type
+	private static final ClassValue<EntriesPlans> ENTRIES_PLANS = new ClassValue<>() {
+
+		@Override
+		protected EntriesPlans computeValue(Class<?> extensionType) {
+			return new EntriesPlans();
+		}
+
+	};
+
 	@Override
 	public void beforeAll(ExtensionContext context) {
 		applyForAllContexts(context);
@@ -77,7 +100,7 @@ abstract class AbstractEntryBasedExtension<K, V, C extends Annotation, S extends
 		boolean fullRestore = PioneerAnnotationUtils.isAnnotationPresent(originalContext, getRestoreAnnotationType());
 
 		if (fullRestore) {
-			Properties bulk = this.prepareToEnterRestorableContext();
+			Properties bulk = this.prepareToEnterRestorableContext(originalContext);
 			storeOriginalCompleteEntries(originalContext, bulk);
 		}
 
@@ -94,33 +117,52 @@ abstract class AbstractEntryBasedExtension<K, V, C extends Annotation, S extends
 	private void clearAndSetEntries(ExtensionContext currentContext, ExtensionContext originalContext,
 			boolean doIncrementalBackup) {
 		currentContext.getElement().ifPresent(element -> {
-			Set<K> entriesToClear;
-			Map<K, V> entriesToSet;
-
-			try {
-				entriesToClear = findEntriesToClear(element);
-				entriesToSet = findEntriesToSet(element);
-				preventClearAndSetSameEntries(entriesToClear, entriesToSet.keySet());
-			}
-			catch (IllegalStateException ex) {
-				throw new ExtensionConfigurationException("Don't clear/set the same entry more than once.", ex);
-			}
-
-			if (entriesToClear.isEmpty() && entriesToSet.isEmpty())
+			EntriesPlan<K, V> plan = findEntriesPlan(element);
+			if (plan.isEmpty())
 				return;
 
 			reportWarning(currentContext);
 
 			// Only backup original values if we didn't already do bulk storage of the original state
 			if (doIncrementalBackup) {
-				storeOriginalIncrementalEntries(originalContext, entriesToClear, entriesToSet.keySet());
+				storeOriginalIncrementalEntries(originalContext, plan.entriesToClear, plan.entriesToSet.keySet());
 			}
 
-			clearEntries(entriesToClear);
-			setEntries(entriesToSet);
+			clearEntries(plan.entriesToClear);
+			setEntries(plan.entriesToSet);
 		});
 	}
 
+	/**
+	 * @return the entries to clear and set for the element, which are only resolved once per element
+	 */
+	@SuppressWarnings("unchecked")
+	private EntriesPlan<K, V> findEntriesPlan(AnnotatedElement element) {
+		Class<?> elementType = element instanceof Class ? (Class<?>) element : ((Member) element).getDeclaringClass();
+		ConcurrentMap<AnnotatedElement, EntriesPlan<?, ?>> plans = ENTRIES_PLANS.get(getClass()).get(elementType);
+		EntriesPlan<?, ?> cached = plans.get(element);
+		if (cached == null)
+			// if the plan can't be created, the exception is thrown again for each test, just like before
+			cached = plans.computeIfAbsent(element, this::createEntriesPlan);
+		return (EntriesPlan<K, V>) cached;
+	}
+
+	private EntriesPlan<K, V> createEntriesPlan(AnnotatedElement element) {
+		Set<K> entriesToClear;
+		Map<K, V> entriesToSet;
+
+		try {
+			entriesToClear = findEntriesToClear(element);
+			entriesToSet = findEntriesToSet(element);
+			preventClearAndSetSameEntries(entriesToClear, entriesToSet.keySet());
+		}
+		catch (IllegalStateException ex) {
+			throw new ExtensionConfigurationException("Don't clear/set the same entry more than once.", ex);
+		}
+
+		return new EntriesPlan<>(entriesToClear, entriesToSet);
+	}
+
 	private Set<K> findEntriesToClear(AnnotatedElement element) {
 		return findAnnotations(element, getClearAnnotationType())
 				.map(clearKeyMapper())
@@ -137,26 +179,26 @@ abstract class AbstractEntryBasedExtension<K, V, C extends Annotation, S extends
 
 	@SuppressWarnings("unchecked")
 	private Class<C> getClearAnnotationType() {
-		return (Class<C>) getActualTypeArgumentAt(2);
+		return (Class<C>) ANNOTATION_TYPES.get(getClass()).clear;
 	}
 
 	@SuppressWarnings("unchecked")
 	private Class<S> getSetAnnotationType() {
-		return (Class<S>) getActualTypeArgumentAt(3);
+		return (Class<S>) ANNOTATION_TYPES.get(getClass()).set;
 	}
 
 	@SuppressWarnings("unchecked")
 	private Class<R> getRestoreAnnotationType() {
-		return (Class<R>) getActualTypeArgumentAt(4);
+		return (Class<R>) ANNOTATION_TYPES.get(getClass()).restore;
 	}
 
-	private Type getActualTypeArgumentAt(int index) {
-		ParameterizedType abstractEntryBasedExtensionType = (ParameterizedType) getClass().getGenericSuperclass();
+	private static Class<?> getActualTypeArgumentAt(Class<?> extensionType, int index) {
+		ParameterizedType abstractEntryBasedExtensionType = (ParameterizedType) extensionType.getGenericSuperclass();
 		Type type = abstractEntryBasedExtensionType.getActualTypeArguments()[index];
 		if (type instanceof ParameterizedType) {
-			return ((ParameterizedType) type).getRawType();
+			return (Class<?>) ((ParameterizedType) type).getRawType();
 		} else {
-			return type;
+			return (Class<?>) type;
 		}
 	}
 
@@ -199,14 +241,6 @@ abstract class AbstractEntryBasedExtension<K, V, C extends Annotation, S extends
 		}
 	}
 
-	private void clearEntries(Collection<K> entriesToClear) {
-		entriesToClear.forEach(this::clearEntry);
-	}
-
-	private void setEntries(Map<K, V> entriesToSet) {
-		entriesToSet.forEach(this::setEntry);
-	}
-
 	@Override
 	public void afterEach(ExtensionContext context) {
 		restoreForAllContexts(context);
@@ -241,6 +275,49 @@ abstract class AbstractEntryBasedExtension<K, V, C extends Annotation, S extends
 		return context.getUniqueId() + "-" + this.getClass().getSimpleName() + "-" + discriminator;
 	}
 
+	private static final class AnnotationTypes {
+
+		private final Class<?> clear;
+		private final Class<?> set;
+		private final Class<?> restore;
+
+		AnnotationTypes(Class<?> extensionType) {
+			clear = getActualTypeArgumentAt(extensionType, 2);
+			set = getActualTypeArgumentAt(extensionType, 3);
+			restore = getActualTypeArgumentAt(extensionType, 4);
+		}
+
+	}
+
+	/**
+	 * Keyed by the element's (declaring) class, so the cache doesn't keep test classes from being unloaded.
+	 */
+	private static final class EntriesPlans extends ClassValue<ConcurrentMap<AnnotatedElement, EntriesPlan<?, ?>>> {
+
+		@Override
+		protected ConcurrentMap<AnnotatedElement, EntriesPlan<?, ?>> computeValue(Class<?> elementType) {
+			return new ConcurrentHashMap<>();
+		}
+
+	}
+
+	private static final class EntriesPlan<K, V> {
+
+		private final Set<K> entriesToClear;
+		private final Map<K, V> entriesToSet;
+
+		EntriesPlan(Set<K> entriesToClear, Map<K, V> entriesToSet) {
+			// plans are shared between tests, so they must not change
+			this.entriesToClear = Set.copyOf(entriesToClear);
+			this.entriesToSet = Map.copyOf(entriesToSet);
+		}
+
+		boolean isEmpty() {
+			return entriesToClear.isEmpty() && entriesToSet.isEmpty();
+		}
+
+	}
+
 	private class EntriesBackup {
 
 		private final Set<K> entriesToClear = new HashSet<>();
@@ -261,8 +338,8 @@ abstract class AbstractEntryBasedExtension<K, V, C extends Annotation, S extends
 		}
 
 		public void restoreBackup() {
-			entriesToClear.forEach(AbstractEntryBasedExtension.this::clearEntry);
-			entriesToSet.forEach(AbstractEntryBasedExtension.this::setEntry);
+			AbstractEntryBasedExtension.this.clearEntries(entriesToClear);
+			AbstractEntryBasedExtension.this.setEntries(entriesToSet);
 		}
 
 	}
@@ -297,6 +374,26 @@ abstract class AbstractEntryBasedExtension<K, V, C extends Annotation, S extends
 	 */
 	protected abstract void setEntry(K key, V value);
 
+	/**
+	 * Removes all entries indicated by the specified keys.
+	 *
+	 * <p>By default, this calls {@link #clearEntry} for each key. Implementations for which
+	 * each modification is costly may override this to remove all entries at once.</p>
+	 */
+	protected void clearEntries(Collection<K> keys) {
+		keys.forEach(this::clearEntry);
+	}
+
+	/**
+	 * Sets all specified entries.
+	 *
+	 * <p>By default, this calls {@link #setEntry} for each entry. Implementations for which
+	 * each modification is costly may override this to set all entries at once.</p>
+	 */
+	protected void setEntries(Map<K, V> entries) {
+		entries.forEach(this::setEntry);
+	}
+
 	/**
 	 * Reports a warning about potentially unsafe practices.
 	 */
@@ -325,6 +422,22 @@ abstract class AbstractEntryBasedExtension<K, V, C extends Annotation, S extends
 	 */
 	protected abstract Properties prepareToEnterRestorableContext();
 
+	/**
+	 * Prepare the entry-based environment for entering the specified context that must be restorable.
+	 *
+	 * <p>By default, this calls {@link #prepareToEnterRestorableContext()}. Implementations whose
+	 * strategy can be configured may override it to read the context's configuration parameters.
+	 * The returned {@code Properties} is passed to {@link #prepareToExitRestorableContext} unchanged,
+	 * so an implementation that records modifications instead of all entries may return a
+	 * subclass that carries its records.</p>
+	 *
+	 * @param context The {@code ExtensionContext} that is about to be entered.
+	 * @return A non-null {@code Properties} that is needed to restore the entry environment.
+	 */
+	protected Properties prepareToEnterRestorableContext(ExtensionContext context) {
+		return prepareToEnterRestorableContext();
+	}
+
 	/**
 	 * Prepare to exit a restorable context for the entry based environment.
 	 *
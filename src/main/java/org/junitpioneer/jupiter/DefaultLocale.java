@@ -53,6 +53,14 @@ import org.junit.jupiter.api.extension.ExtendWith;
  * default {@code Locale} for all tests inside that class. Any method level
  * configurations will override the class level default {@code Locale}.</p>
  *
+ * <p>Since v3.0, {@code @DefaultLocale} can also be used on a {@code Locale} parameter of a
+ * test, its constructor, or one of its lifecycle methods. The parameter then gets the
+ * configured {@code Locale} injected and the default {@code Locale} is left untouched.
+ * Since JUnit only reads resource locks from classes and methods, such a test doesn't
+ * lock the default {@code Locale} - as long as the tested code gets the injected
+ * {@code Locale} passed instead of reading the default one, it can run in parallel with
+ * tests that change it.</p>
+ *
  * <p>During
  * <a href="https://junit.org/junit5/docs/current/user-guide/#writing-tests-parallel-execution" target="_top">parallel test execution</a>,
  * all tests annotated with {@link DefaultLocale}, {@link ReadsDefaultLocale}, and {@link WritesDefaultLocale}
@@ -69,7 +77,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
  */
 @Deprecated(forRemoval = true, since = "3.0")
 @Retention(RetentionPolicy.RUNTIME)
-@Target({ ElementType.METHOD, ElementType.TYPE })
+@Target({ ElementType.METHOD, ElementType.TYPE, ElementType.PARAMETER })
 @Inherited
 @WritesDefaultLocale
 @ExtendWith(DefaultLocaleExtension.class)
@@ -11,12 +11,18 @@
 package org.junitpioneer.jupiter;
 
 import java.util.Locale;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
 import org.junit.jupiter.api.extension.AfterEachCallback;
 import org.junit.jupiter.api.extension.BeforeEachCallback;
 import org.junit.jupiter.api.extension.ExtensionConfigurationException;
 import org.junit.jupiter.api.extension.ExtensionContext;
 import org.junit.jupiter.api.extension.ExtensionContext.Namespace;
+import org.junit.jupiter.api.extension.ParameterContext;
+import org.junit.jupiter.api.extension.ParameterResolutionException;
+import org.junit.jupiter.api.extension.ParameterResolver;
+import org.junit.jupiter.api.parallel.Resources;
 import org.junit.platform.commons.support.ReflectionSupport;
 import org.junitpioneer.internal.PioneerAnnotationUtils;
 import org.junitpioneer.internal.PioneerUtils;
@@ -26,21 +32,37 @@ import org.junitpioneer.jupiter.LocaleProvider.NullLocaleProvider;
  * @deprecated The extension was provided to the JUnit framework.
  */
 @Deprecated(forRemoval = true, since = "3.0")
-class DefaultLocaleExtension implements BeforeEachCallback, AfterEachCallback {
+class DefaultLocaleExtension implements BeforeEachCallback, AfterEachCallback, ParameterResolver {
 
 	private static final Namespace NAMESPACE = Namespace.create(DefaultLocaleExtension.class);
 
 	private static final String KEY = "DefaultLocale";
+	private static final String LOCALES_KEY = "Locales";
 
 	@Override
 	public void beforeEach(ExtensionContext context) {
+		DefaultValueInjection.count(context, DefaultLocale.class, Resources.LOCALE, "default locale");
 		PioneerAnnotationUtils
 				.findClosestEnclosingAnnotation(context, DefaultLocale.class)
 				.ifPresent(annotation -> setDefaultLocale(context, annotation));
 	}
 
+	@Override
+	public boolean supportsParameter(ParameterContext parameterContext, ExtensionContext extensionContext) {
+		// only annotated parameters, so other resolvers (e.g. of parameterized tests) can provide locales, too
+		return parameterContext.isAnnotated(DefaultLocale.class);
+	}
+
+	@Override
+	public Object resolveParameter(ParameterContext parameterContext, ExtensionContext extensionContext) {
+		if (parameterContext.getParameter().getType() != Locale.class)
+			throw new ParameterResolutionException(
+				"@DefaultLocale can only be used on parameters of type " + Locale.class.getName());
+		return createLocale(extensionContext, parameterContext.findAnnotation(DefaultLocale.class).orElseThrow());
+	}
+
 	private void setDefaultLocale(ExtensionContext context, DefaultLocale annotation) {
-		Locale configuredLocale = createLocale(annotation);
+		Locale configuredLocale = createLocale(context, annotation);
 		// defer storing the current default locale until the new locale could be created from the configuration
 		// (this prevents cases where misconfigured extensions store default locale now and restore it later,
 		// which leads to race conditions in our tests)
@@ -52,14 +74,30 @@ class DefaultLocaleExtension implements BeforeEachCallback, AfterEachCallback {
 		context.getStore(NAMESPACE).put(KEY, Locale.getDefault());
 	}
 
-	private static Locale createLocale(DefaultLocale annotation) {
+	@SuppressWarnings("unchecked")
+	private static Locale createLocale(ExtensionContext context, DefaultLocale annotation) {
+		// tests with the same configuration (e.g. the invocations of a parameterized test) share the locale;
+		// misconfigurations aren't cached, so they fail every test
+		ConcurrentMap<DefaultLocale, Locale> locales = context
+				.getRoot()
+				.getStore(NAMESPACE)
+				.computeIfAbsent(LOCALES_KEY, __ -> new ConcurrentHashMap<>(), ConcurrentMap.class);
+		Locale locale = locales.get(annotation);
+		if (locale != null)
+			return locale;
+
 		if (!annotation.value().isEmpty()) {
-			return createFromLanguageTag(annotation);
+			locale = createFromLanguageTag(annotation);
 		} else if (!annotation.language().isEmpty()) {
-			return createFromParts(annotation);
+			locale = createFromParts(annotation);
 		} else {
-			return getFromProvider(annotation);
+			LocaleProvider provider = createProvider(annotation);
+			locale = getFromProvider(provider);
+			if (!provider.isCacheable())
+				return locale;
 		}
+		locales.putIfAbsent(annotation, locale);
+		return locale;
 	}
 
 	private static Locale createFromLanguageTag(DefaultLocale annotation) {
@@ -91,19 +129,21 @@ class DefaultLocaleExtension implements BeforeEachCallback, AfterEachCallback {
 		}
 	}
 
-	private static Locale getFromProvider(DefaultLocale annotation) {
+	private static LocaleProvider createProvider(DefaultLocale annotation) {
 		if (!annotation.country().isEmpty() || !annotation.variant().isEmpty())
 			throw new ExtensionConfigurationException(
 				"@DefaultLocale can only be used with a provider if value, language, country and variant are not set.");
 		var providerClass = annotation.localeProvider();
-		LocaleProvider provider;
 		try {
-			provider = ReflectionSupport.newInstance(providerClass);
+			return ReflectionSupport.newInstance(providerClass);
 		}
 		catch (Exception exception) {
 			throw new ExtensionConfigurationException(
 				"LocaleProvider instance could not be constructed because of an exception", exception);
 		}
+	}
+
+	private static Locale getFromProvider(LocaleProvider provider) {
 		var locale = provider.get();
 		if (locale == null)
 			throw new NullPointerException("LocaleProvider instance returned with null");
@@ -35,6 +35,14 @@ import org.junit.jupiter.api.extension.ExtendWith;
  * that class. Any method level configurations will override the class level
  * default {@code TimeZone}.</p>
  *
+ * <p>Since v3.0, {@code @DefaultTimeZone} can also be used on a {@code TimeZone}
+ * parameter of a test, its constructor, or one of its lifecycle methods. The parameter
+ * then gets the configured {@code TimeZone} injected and the default {@code TimeZone} is
+ * left untouched. Since JUnit only reads resource locks from classes and methods, such a
+ * test doesn't lock the default {@code TimeZone} - as long as the tested code gets the
+ * injected {@code TimeZone} passed instead of reading the default one, it can run in
+ * parallel with tests that change it.</p>
+ *
  * <p>During
  * <a href="https://junit.org/junit5/docs/current/user-guide/#writing-tests-parallel-execution" target="_top">parallel test execution</a>,
  * all tests annotated with {@link DefaultTimeZone}, {@link ReadsDefaultTimeZone}, and {@link WritesDefaultTimeZone}
@@ -51,7 +59,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
  */
 @Deprecated(forRemoval = true, since = "3.0")
 @Retention(RetentionPolicy.RUNTIME)
-@Target({ ElementType.METHOD, ElementType.TYPE })
+@Target({ ElementType.METHOD, ElementType.TYPE, ElementType.PARAMETER })
 @Inherited
 @WritesDefaultTimeZone
 @ExtendWith(DefaultTimeZoneExtension.class)
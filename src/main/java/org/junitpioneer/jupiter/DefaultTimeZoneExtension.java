@@ -12,6 +12,8 @@ package org.junitpioneer.jupiter;
 
 import java.util.Optional;
 import java.util.TimeZone;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
 import org.junit.jupiter.api.extension.AfterEachCallback;
 import org.junit.jupiter.api.extension.BeforeEachCallback;
@@ -19,6 +21,10 @@ import org.junit.jupiter.api.extension.ExtensionConfigurationException;
 import org.junit.jupiter.api.extension.ExtensionContext;
 import org.junit.jupiter.api.extension.ExtensionContext.Namespace;
 import org.junit.jupiter.api.extension.ExtensionContext.Store;
+import org.junit.jupiter.api.extension.ParameterContext;
+import org.junit.jupiter.api.extension.ParameterResolutionException;
+import org.junit.jupiter.api.extension.ParameterResolver;
+import org.junit.jupiter.api.parallel.Resources;
 import org.junit.platform.commons.support.ReflectionSupport;
 import org.junitpioneer.internal.PioneerAnnotationUtils;
 import org.junitpioneer.jupiter.TimeZoneProvider.NullTimeZoneProvider;
@@ -27,33 +33,69 @@ import org.junitpioneer.jupiter.TimeZoneProvider.NullTimeZoneProvider;
  * @deprecated The extension was provided to the JUnit framework.
  */
 @Deprecated(forRemoval = true, since = "3.0")
-class DefaultTimeZoneExtension implements BeforeEachCallback, AfterEachCallback {
+class DefaultTimeZoneExtension implements BeforeEachCallback, AfterEachCallback, ParameterResolver {
 
 	private static final Namespace NAMESPACE = Namespace.create(DefaultTimeZoneExtension.class);
 
 	private static final String KEY = "DefaultTimeZone";
+	private static final String TIME_ZONES_KEY = "TimeZones";
 
 	@Override
 	public void beforeEach(ExtensionContext context) {
+		DefaultValueInjection.count(context, DefaultTimeZone.class, Resources.TIME_ZONE, "default time zone");
 		PioneerAnnotationUtils
 				.findClosestEnclosingAnnotation(context, DefaultTimeZone.class)
-				.ifPresent(annotation -> setDefaultTimeZone(context.getStore(NAMESPACE), annotation));
+				.ifPresent(annotation -> setDefaultTimeZone(context, annotation));
 	}
 
-	private void setDefaultTimeZone(Store store, DefaultTimeZone annotation) {
-		validateCorrectConfiguration(annotation);
-		TimeZone defaultTimeZone;
-		if (annotation.timeZoneProvider() != NullTimeZoneProvider.class)
-			defaultTimeZone = createTimeZone(annotation.timeZoneProvider());
-		else
-			defaultTimeZone = createTimeZone(annotation.value());
+	@Override
+	public boolean supportsParameter(ParameterContext parameterContext, ExtensionContext extensionContext) {
+		// only annotated parameters, so other resolvers (e.g. of parameterized tests) can provide time zones, too
+		return parameterContext.isAnnotated(DefaultTimeZone.class);
+	}
+
+	@Override
+	public Object resolveParameter(ParameterContext parameterContext, ExtensionContext extensionContext) {
+		if (parameterContext.getParameter().getType() != TimeZone.class)
+			throw new ParameterResolutionException(
+				"@DefaultTimeZone can only be used on parameters of type " + TimeZone.class.getName());
+		return createTimeZone(extensionContext, parameterContext.findAnnotation(DefaultTimeZone.class).orElseThrow());
+	}
+
+	private void setDefaultTimeZone(ExtensionContext context, DefaultTimeZone annotation) {
+		TimeZone defaultTimeZone = createTimeZone(context, annotation);
 		// defer storing the current default time zone until the new time zone could be created from the configuration
 		// (this prevents cases where misconfigured extensions store default time zone now and restore it later,
 		// which leads to race conditions in our tests)
-		storeDefaultTimeZone(store);
+		storeDefaultTimeZone(context.getStore(NAMESPACE));
 		TimeZone.setDefault(defaultTimeZone);
 	}
 
+	@SuppressWarnings("unchecked")
+	private static TimeZone createTimeZone(ExtensionContext context, DefaultTimeZone annotation) {
+		// tests with the same configuration (e.g. the invocations of a parameterized test) share the time zone;
+		// misconfigurations aren't cached, so they fail every test
+		ConcurrentMap<DefaultTimeZone, TimeZone> timeZones = context
+				.getRoot()
+				.getStore(NAMESPACE)
+				.computeIfAbsent(TIME_ZONES_KEY, __ -> new ConcurrentHashMap<>(), ConcurrentMap.class);
+		TimeZone timeZone = timeZones.get(annotation);
+		if (timeZone == null) {
+			validateCorrectConfiguration(annotation);
+			if (annotation.timeZoneProvider() != NullTimeZoneProvider.class) {
+				TimeZoneProvider provider = createProvider(annotation.timeZoneProvider());
+				timeZone = createTimeZone(provider);
+				if (!provider.isCacheable())
+					return timeZone;
+			} else {
+				timeZone = createTimeZone(annotation.value());
+			}
+			timeZones.putIfAbsent(annotation, timeZone);
+		}
+		// unlike locales, time zones are mutable, so every test gets its own copy
+		return (TimeZone) timeZone.clone();
+	}
+
 	private static void validateCorrectConfiguration(DefaultTimeZone annotation) {
 		boolean noValue = annotation.value().isEmpty();
 		boolean noProvider = annotation.timeZoneProvider() == NullTimeZoneProvider.class;
@@ -76,9 +118,18 @@ class DefaultTimeZoneExtension implements BeforeEachCallback, AfterEachCallback
 		return configuredTimeZone;
 	}
 
-	private static TimeZone createTimeZone(Class<? extends TimeZoneProvider> providerClass) {
+	private static TimeZoneProvider createProvider(Class<? extends TimeZoneProvider> providerClass) {
+		try {
+			return ReflectionSupport.newInstance(providerClass);
+		}
+		catch (Exception exception) {
+			throw new ExtensionConfigurationException("Could not instantiate TimeZoneProvider because of exception",
+				exception);
+		}
+	}
+
+	private static TimeZone createTimeZone(TimeZoneProvider provider) {
 		try {
-			TimeZoneProvider provider = ReflectionSupport.newInstance(providerClass);
 			return Optional.ofNullable(provider.get()).orElse(TimeZone.getTimeZone("GMT"));
 		}
 		catch (Exception exception) {
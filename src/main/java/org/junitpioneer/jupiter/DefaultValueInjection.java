@@ -0,0 +1,102 @@
+/*
+ * Copyright 2016-2023 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v2.0 which
+ * accompanies this distribution and is available at
+ *
+ * http://www.eclipse.org/legal/epl-v20.html
+ */
+
+package org.junitpioneer.jupiter;
+
+import static java.lang.String.format;
+
+import java.lang.annotation.Annotation;
+import java.lang.reflect.AnnotatedElement;
+import java.util.Arrays;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.extension.ExtensionContext;
+import org.junit.jupiter.api.extension.ExtensionContext.Namespace;
+import org.junit.jupiter.api.parallel.ResourceLock;
+import org.junit.platform.commons.support.AnnotationSupport;
+
+/**
+ * Counts the tests that {@link DefaultLocaleExtension} and {@link DefaultTimeZoneExtension} inject
+ * the configured value into and how many of them run without a lock on the JVM-wide default, and
+ * publishes these counts as a report entry once the test run is done.
+ *
+ * <p>This class is internal to the (deprecated) extensions and is removed together with them.</p>
+ */
+final class DefaultValueInjection implements AutoCloseable {
+
+	private static final Namespace NAMESPACE = Namespace.create(DefaultValueInjection.class);
+
+	private final ExtensionContext root;
+	private final String subject;
+	private final AtomicInteger injectedTests = new AtomicInteger();
+	private final AtomicInteger unlockedTests = new AtomicInteger();
+
+	private DefaultValueInjection(ExtensionContext root, String subject) {
+		this.root = root;
+		this.subject = subject;
+	}
+
+	/**
+	 * Counts the test of the specified context if one of its method's parameters is annotated
+	 * with the specified annotation, i.e. gets the value injected.
+	 *
+	 * @param resource the resource lock that a test needs to change the default value,
+	 *        e.g. {@link org.junit.jupiter.api.parallel.Resources#LOCALE}
+	 * @param subject what the default value is called in the report, e.g. "default locale"
+	 */
+	static void count(ExtensionContext context, Class<? extends Annotation> annotation, String resource,
+			String subject) {
+		boolean injected = context
+				.getTestMethod()
+				.map(method -> Arrays
+						.stream(method.getParameters())
+						.anyMatch(parameter -> AnnotationSupport.isAnnotated(parameter, annotation)))
+				.orElse(false);
+		if (injected)
+			of(context, subject).count(!isLocked(context, resource));
+	}
+
+	// resource locks of enclosing classes apply to their tests, too
+	private static boolean isLocked(ExtensionContext context, String resource) {
+		for (Optional<ExtensionContext> current = Optional.of(context); current.isPresent(); current = current
+				.get()
+				.getParent()) {
+			Optional<AnnotatedElement> element = current.get().getElement();
+			if (element.isPresent() && AnnotationSupport
+					.findRepeatableAnnotations(element.get(), ResourceLock.class)
+					.stream()
+					.anyMatch(lock -> lock.value().equals(resource)))
+				return true;
+		}
+		return false;
+	}
+
+	private static DefaultValueInjection of(ExtensionContext context, String subject) {
+		ExtensionContext root = context.getRoot();
+		return root
+				.getStore(NAMESPACE)
+				.computeIfAbsent(subject, __ -> new DefaultValueInjection(root, subject), DefaultValueInjection.class);
+	}
+
+	private void count(boolean unlocked) {
+		injectedTests.incrementAndGet();
+		if (unlocked)
+			unlockedTests.incrementAndGet();
+	}
+
+	@Override
+	public void close() {
+		String report = format("%d of %d tests that got the %s injected ran without locking it", unlockedTests.get(),
+			injectedTests.get(), subject);
+		root.publishReportEntry(subject + " injection", report);
+	}
+
+}
@@ -10,20 +10,27 @@
 
 package org.junitpioneer.jupiter;
 
+import static java.lang.String.format;
 import static java.util.function.Predicate.not;
 import static java.util.stream.Collectors.toSet;
 
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Locale;
 import java.util.Map;
 import java.util.Properties;
 import java.util.Set;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.function.Function;
 
+import org.junit.jupiter.api.extension.ExtensionConfigurationException;
 import org.junit.jupiter.api.extension.ExtensionContext;
 
 class EnvironmentVariableExtension extends
 		AbstractEntryBasedExtension<String, String, ClearEnvironmentVariable, SetEnvironmentVariable, RestoreEnvironmentVariables> {
 
+	static final String RESTORE_CONFIG_PARAM = "org.junitpioneer.jupiter.environmentvariable.restore";
+
 	// package visible to make accessible for tests
 	static final AtomicBoolean REPORTED_WARNING = new AtomicBoolean(false);
 	static final String WARNING_KEY = EnvironmentVariableExtension.class.getSimpleName();
@@ -76,6 +83,17 @@ class EnvironmentVariableExtension extends
 		EnvironmentVariableUtils.set(key, value);
 	}
 
+	@Override
+	protected void clearEntries(Collection<String> keys) {
+		// every modification goes through reflection, so apply them all at once
+		EnvironmentVariableUtils.clearAll(keys);
+	}
+
+	@Override
+	protected void setEntries(Map<String, String> entries) {
+		EnvironmentVariableUtils.setAll(entries);
+	}
+
 	/**
 	 * This implementation uses the "Post swap" strategy, returning a clone of the environment variables
 	 * which will be restored in {@link AbstractEntryBasedExtension#prepareToExitRestorableContext}.
@@ -91,22 +109,48 @@ class EnvironmentVariableExtension extends
 		return clone;
 	}
 
+	/**
+	 * Depending on the configuration, this either clones the environment variables (see
+	 * {@link #prepareToEnterRestorableContext()}) or opens an {@link EnvironmentVariableJournal}
+	 * that records the original values of the variables that are modified later on.
+	 */
+	@Override
+	protected Properties prepareToEnterRestorableContext(ExtensionContext context) {
+		String restore = context.getConfigurationParameter(RESTORE_CONFIG_PARAM).orElse("snapshot");
+		switch (restore.trim().toLowerCase(Locale.ROOT)) {
+			case "snapshot":
+				return prepareToEnterRestorableContext();
+			case "journal":
+				return EnvironmentVariableJournal.open();
+			default:
+				throw new ExtensionConfigurationException(
+					format("The configuration parameter %s must be 'snapshot' or 'journal', but was '%s'",
+						RESTORE_CONFIG_PARAM, restore));
+		}
+	}
+
 	@Override
 	protected void prepareToExitRestorableContext(Properties restoreMe) {
+		if (restoreMe instanceof EnvironmentVariableJournal) {
+			((EnvironmentVariableJournal) restoreMe).undo();
+			return;
+		}
+
 		Map<String, String> existingEnv = System.getenv();
 
 		// Set all values, but only if different from actual value
-		restoreMe
-				.entrySet()
-				.stream()
-				.filter(e -> !e.getValue().equals(System.getenv(e.getKey().toString())))
-				.forEach(e -> setEntry(e.getKey().toString(), e.getValue().toString()));
+		Map<String, String> entriesToSet = new HashMap<>();
+		restoreMe.forEach((key, value) -> {
+			if (!value.equals(existingEnv.get(key.toString())))
+				entriesToSet.put(key.toString(), value.toString());
+		});
 
 		// Find entries to remove.
-		// Cannot remove in stream b/c the stream is based on the collection that needs to be modified
+		// Cannot remove while streaming b/c the stream is based on the collection that needs to be modified
 		Set<String> entriesToClear = existingEnv.keySet().stream().filter(not(restoreMe::containsKey)).collect(toSet());
 
-		entriesToClear.forEach(this::clearEntry);
+		setEntries(entriesToSet);
+		clearEntries(entriesToClear);
 	}
 
 }
@@ -0,0 +1,86 @@
+/*
+ * Copyright 2016-2023 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v2.0 which
+ * accompanies this distribution and is available at
+ *
+ * http://www.eclipse.org/legal/epl-v20.html
+ */
+
+package org.junitpioneer.jupiter;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * Records the original values of the environment variables that are modified via
+ * {@link EnvironmentVariableUtils} while it is open, so these modifications can be
+ * undone without comparing the entire environment.
+ *
+ * <p>It is a {@code Properties} so it can be passed to
+ * {@link AbstractEntryBasedExtension#prepareToExitRestorableContext(Properties)}, but it
+ * only contains the original values of modified variables that existed before.</p>
+ */
+final class EnvironmentVariableJournal extends Properties {
+
+	private static final long serialVersionUID = 1L;
+
+	// every open journal records every modification, so nested journals don't depend on each other
+	private static final List<EnvironmentVariableJournal> OPEN_JOURNALS = new CopyOnWriteArrayList<>();
+
+	// modified variables that didn't exist before
+	private final transient Set<String> absent = ConcurrentHashMap.newKeySet();
+
+	private EnvironmentVariableJournal() {
+		// use `open()`
+	}
+
+	static EnvironmentVariableJournal open() {
+		EnvironmentVariableJournal journal = new EnvironmentVariableJournal();
+		OPEN_JOURNALS.add(journal);
+		return journal;
+	}
+
+	/**
+	 * Records the current values of the specified environment variables, which are about to be modified.
+	 */
+	static void record(Collection<String> names) {
+		if (OPEN_JOURNALS.isEmpty())
+			return;
+
+		names.forEach(name -> {
+			String value = System.getenv(name); //NOSONAR access required to implement the extension
+			OPEN_JOURNALS.forEach(journal -> journal.recordOriginal(name, value));
+		});
+	}
+
+	private void recordOriginal(String name, String value) {
+		// only the value before the first modification is relevant
+		if (containsKey(name) || absent.contains(name))
+			return;
+		if (value == null)
+			absent.add(name);
+		else
+			put(name, value);
+	}
+
+	/**
+	 * Closes this journal and undoes all modifications it recorded.
+	 */
+	void undo() {
+		OPEN_JOURNALS.remove(this);
+
+		Map<String, String> originals = new HashMap<>();
+		forEach((name, value) -> originals.put(name.toString(), value.toString()));
+		EnvironmentVariableUtils.setAll(originals);
+		EnvironmentVariableUtils.clearAll(absent);
+	}
+
+}
@@ -12,6 +12,8 @@ package org.junitpioneer.jupiter;
 
 import java.lang.reflect.Field;
 import java.lang.reflect.InaccessibleObjectException;
+import java.util.Collection;
+import java.util.List;
 import java.util.Map;
 import java.util.function.Consumer;
 
@@ -23,6 +25,10 @@ import org.junit.platform.commons.PreconditionViolationException;
  */
 class EnvironmentVariableUtils {
 
+	// the maps behind `System.getenv()` are created once per JVM, so they only need to be looked up once;
+	// if two threads look them up at the same time, they find the same maps
+	private static volatile List<Map<String, String>> environmentMaps;
+
 	private EnvironmentVariableUtils() {
 		// private constructor to prevent instantiation of utility class
 	}
@@ -34,6 +40,7 @@ class EnvironmentVariableUtils {
 	 * @param value of the environment variable
 	 */
 	public static void set(String name, String value) {
+		EnvironmentVariableJournal.record(List.of(name));
 		modifyEnvironmentVariables(map -> map.put(name, value));
 	}
 
@@ -43,22 +50,61 @@ class EnvironmentVariableUtils {
 	 * @param name of the environment variable
 	 */
 	public static void clear(String name) {
+		EnvironmentVariableJournal.record(List.of(name));
 		modifyEnvironmentVariables(map -> map.remove(name));
 	}
 
+	/**
+	 * Set the values of several environment variables at once.
+	 *
+	 * @param entries names and values of the environment variables
+	 */
+	public static void setAll(Map<String, String> entries) {
+		if (entries.isEmpty())
+			return;
+		EnvironmentVariableJournal.record(entries.keySet());
+		modifyEnvironmentVariables(map -> map.putAll(entries));
+	}
+
+	/**
+	 * Clear several environment variables at once.
+	 *
+	 * @param names of the environment variables
+	 */
+	public static void clearAll(Collection<String> names) {
+		if (names.isEmpty())
+			return;
+		EnvironmentVariableJournal.record(names);
+		// remove one by one, so case-insensitive maps (like Windows' theCaseInsensitiveEnvironment) match, too
+		modifyEnvironmentVariables(map -> names.forEach(map::remove));
+	}
+
 	private static void modifyEnvironmentVariables(Consumer<Map<String, String>> consumer) {
+		environmentMaps().forEach(consumer);
+	}
+
+	private static List<Map<String, String>> environmentMaps() {
+		List<Map<String, String>> maps = environmentMaps;
+		if (maps == null) {
+			maps = findEnvironmentMaps();
+			environmentMaps = maps;
+		}
+		return maps;
+	}
+
+	private static List<Map<String, String>> findEnvironmentMaps() {
 		try {
-			setInProcessEnvironmentClass(consumer);
+			return findInProcessEnvironmentClass();
 		}
 		catch (ReflectiveOperationException ex) {
-			trySystemEnvClass(consumer, ex);
+			return trySystemEnvClass(ex);
 		}
 	}
 
-	private static void trySystemEnvClass(Consumer<Map<String, String>> consumer,
+	private static List<Map<String, String>> trySystemEnvClass(
 			ReflectiveOperationException processEnvironmentClassEx) {
 		try {
-			setInSystemEnvClass(consumer);
+			return findInSystemEnvClass();
 		}
 		catch (ReflectiveOperationException ex) {
 			ex.addSuppressed(processEnvironmentClassEx);
@@ -69,27 +115,24 @@ class EnvironmentVariableUtils {
 	/*
 	 * Works on Windows
 	 */
-	private static void setInProcessEnvironmentClass(Consumer<Map<String, String>> consumer)
-			throws ReflectiveOperationException {
+	private static List<Map<String, String>> findInProcessEnvironmentClass() throws ReflectiveOperationException {
 		Class<?> processEnvironmentClass = Class.forName("java.lang.ProcessEnvironment");
 		// The order of operations is critical here: On some operating systems, theEnvironment is present but
 		// theCaseInsensitiveEnvironment is not present. In such cases, this method must throw a
 		// ReflectiveOperationException without modifying theEnvironment. Otherwise, the contents of theEnvironment will
-		// be corrupted. For this reason, both fields are fetched by reflection before either field is modified.
+		// be corrupted. For this reason, both fields are fetched by reflection before either field is returned.
 		Map<String, String> theEnvironment = getFieldValue(processEnvironmentClass, null, "theEnvironment");
 		Map<String, String> theCaseInsensitiveEnvironment = getFieldValue(processEnvironmentClass, null,
 			"theCaseInsensitiveEnvironment");
-		consumer.accept(theEnvironment);
-		consumer.accept(theCaseInsensitiveEnvironment);
+		return List.of(theEnvironment, theCaseInsensitiveEnvironment);
 	}
 
 	/*
 	 * Works on Linux and OSX
 	 */
-	private static void setInSystemEnvClass(Consumer<Map<String, String>> consumer)
-			throws ReflectiveOperationException {
+	private static List<Map<String, String>> findInSystemEnvClass() throws ReflectiveOperationException {
 		Map<String, String> env = System.getenv(); //NOSONAR access required to implement the extension
-		consumer.accept(getFieldValue(env.getClass(), env, "m"));
+		return List.of(getFieldValue(env.getClass(), env, "m"));
 	}
 
 	@SuppressWarnings("unchecked")
@@ -19,6 +19,18 @@ import java.util.function.Supplier;
 @Deprecated(forRemoval = true, since = "3.0")
 public interface LocaleProvider extends Supplier<Locale> {
 
+	/**
+	 * Whether the locale returned by {@link #get()} can be reused for all tests that are annotated
+	 * with the same {@code @DefaultLocale}.
+	 * Providers that may return a different locale each time should override this to return {@code false}.
+	 *
+	 * @return {@code true} by default
+	 * @since 3.0
+	 */
+	default boolean isCacheable() {
+		return true;
+	}
+
 	/*
 	* @deprecated The extension was provided to the JUnit framework.
 	 */
@@ -0,0 +1,460 @@
+/*
+ * Copyright 2016-2023 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v2.0 which
+ * accompanies this distribution and is available at
+ *
+ * http://www.eclipse.org/legal/epl-v20.html
+ */
+
+package org.junitpioneer.jupiter;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.io.PrintWriter;
+import java.io.Writer;
+import java.nio.charset.Charset;
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Enumeration;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Properties;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.BiConsumer;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+
+/**
+ * A {@code Properties} that reads through to the {@code original} instance, but keeps all
+ * modifications to itself, so they can be undone by putting the original back.
+ *
+ * <p>It has the same effective entries as an
+ * {@link SystemPropertyExtension#createEffectiveClone(Properties) effective clone} of the
+ * original with the modifications applied, i.e. nested defaults are flattened and object
+ * values are left out. Lookups and modifications are proportional to the number of
+ * modifications, not the number of original entries. Views like {@link #keySet()} and
+ * {@link #entrySet()} are live and writable, just like those of a clone, but iterating them
+ * (and everything built on that, like {@link #size()} or {@link #toString()}) walks the
+ * original's property names.</p>
+ */
+final class OverlayProperties extends Properties {
+
+	private static final long serialVersionUID = 1L;
+
+	// marks entries that were removed
+	private static final Object REMOVED = new Object();
+
+	private final transient Properties original;
+	// the modified entries' values or `REMOVED`
+	private final transient Map<Object, Object> overlay = new ConcurrentHashMap<>();
+	private final transient EffectiveEntries entries = new EffectiveEntries();
+
+	private OverlayProperties(Properties original) {
+		this.original = original;
+	}
+
+	/**
+	 * Returns a {@code Properties} instance that keeps all modifications of the specified one
+	 * to itself.
+	 */
+	static OverlayProperties over(Properties original) {
+		return new OverlayProperties(original);
+	}
+
+	// for methods that are specific to `Properties` and need all entries anyway
+	private Properties snapshot() {
+		Properties snapshot = new Properties();
+		entries.forEach(snapshot::put);
+		return snapshot;
+	}
+
+	// serialize the entries as they are seen, not the (transient) overlay
+	Object writeReplace() {
+		return snapshot();
+	}
+
+	@Override
+	public String getProperty(String key) {
+		// called for every `System.getProperty`, so don't go through the entries
+		Object value = overlay.get(key);
+		if (value == null)
+			return original.getProperty(key);
+		return value instanceof String ? (String) value : null;
+	}
+
+	@Override
+	public Enumeration<?> propertyNames() {
+		return Collections.enumeration(entries.keySet());
+	}
+
+	@Override
+	public Set<String> stringPropertyNames() {
+		Set<String> names = new HashSet<>();
+		entries.forEach((key, value) -> {
+			if (key instanceof String && value instanceof String)
+				names.add((String) key);
+		});
+		return Collections.unmodifiableSet(names);
+	}
+
+	@Override
+	public void list(PrintStream out) {
+		snapshot().list(out);
+	}
+
+	@Override
+	public void list(PrintWriter out) {
+		snapshot().list(out);
+	}
+
+	@Override
+	public void store(Writer writer, String comments) throws IOException {
+		snapshot().store(writer, comments);
+	}
+
+	@Override
+	public void store(OutputStream out, String comments) throws IOException {
+		snapshot().store(out, comments);
+	}
+
+	@Override
+	public void storeToXML(OutputStream os, String comment) throws IOException {
+		snapshot().storeToXML(os, comment);
+	}
+
+	@Override
+	public void storeToXML(OutputStream os, String comment, String encoding) throws IOException {
+		snapshot().storeToXML(os, comment, encoding);
+	}
+
+	@Override
+	public void storeToXML(OutputStream os, String comment, Charset charset) throws IOException {
+		snapshot().storeToXML(os, comment, charset);
+	}
+
+	@Override
+	public int size() {
+		return entries.size();
+	}
+
+	@Override
+	public boolean isEmpty() {
+		return entries.isEmpty();
+	}
+
+	@Override
+	public Enumeration<Object> keys() {
+		return Collections.enumeration(entries.keySet());
+	}
+
+	@Override
+	public Enumeration<Object> elements() {
+		return Collections.enumeration(entries.values());
+	}
+
+	@Override
+	public boolean contains(Object value) {
+		return entries.containsValue(value);
+	}
+
+	@Override
+	public boolean containsValue(Object value) {
+		return entries.containsValue(value);
+	}
+
+	@Override
+	public boolean containsKey(Object key) {
+		return entries.containsKey(key);
+	}
+
+	@Override
+	public Object get(Object key) {
+		return entries.get(key);
+	}
+
+	@Override
+	public Object put(Object key, Object value) {
+		return entries.put(key, value);
+	}
+
+	@Override
+	public Object remove(Object key) {
+		return entries.remove(key);
+	}
+
+	@Override
+	public void putAll(Map<?, ?> entries) {
+		this.entries.putAll(entries);
+	}
+
+	@Override
+	public void clear() {
+		entries.clear();
+	}
+
+	@Override
+	public Set<Object> keySet() {
+		return entries.keySet();
+	}
+
+	@Override
+	public Set<Map.Entry<Object, Object>> entrySet() {
+		return entries.entrySet();
+	}
+
+	@Override
+	public Collection<Object> values() {
+		return entries.values();
+	}
+
+	@Override
+	public Object getOrDefault(Object key, Object defaultValue) {
+		return entries.getOrDefault(key, defaultValue);
+	}
+
+	@Override
+	public void forEach(BiConsumer<? super Object, ? super Object> action) {
+		entries.forEach(action);
+	}
+
+	@Override
+	public void replaceAll(BiFunction<? super Object, ? super Object, ?> function) {
+		entries.replaceAll(function);
+	}
+
+	@Override
+	public Object putIfAbsent(Object key, Object value) {
+		return entries.putIfAbsent(key, value);
+	}
+
+	@Override
+	public boolean remove(Object key, Object value) {
+		return entries.remove(key, value);
+	}
+
+	@Override
+	public boolean replace(Object key, Object oldValue, Object newValue) {
+		return entries.replace(key, oldValue, newValue);
+	}
+
+	@Override
+	public Object replace(Object key, Object value) {
+		return entries.replace(key, value);
+	}
+
+	@Override
+	public Object computeIfAbsent(Object key, Function<? super Object, ?> mappingFunction) {
+		return entries.computeIfAbsent(key, mappingFunction);
+	}
+
+	@Override
+	public Object computeIfPresent(Object key, BiFunction<? super Object, ? super Object, ?> remappingFunction) {
+		return entries.computeIfPresent(key, remappingFunction);
+	}
+
+	@Override
+	public Object compute(Object key, BiFunction<? super Object, ? super Object, ?> remappingFunction) {
+		return entries.compute(key, remappingFunction);
+	}
+
+	@Override
+	public Object merge(Object key, Object value, BiFunction<? super Object, ? super Object, ?> remappingFunction) {
+		return entries.merge(key, value, remappingFunction);
+	}
+
+	@Override
+	public String toString() {
+		return entries.toString();
+	}
+
+	@Override
+	public boolean equals(Object other) {
+		return other == this || entries.equals(other);
+	}
+
+	@Override
+	public int hashCode() {
+		return entries.hashCode();
+	}
+
+	@Override
+	public Object clone() {
+		return snapshot();
+	}
+
+	/**
+	 * The effective entries of the original properties and the overlay; all modifications
+	 * (including those through views) go to the overlay.
+	 */
+	private final class EffectiveEntries extends AbstractMap<Object, Object> {
+
+		private final Set<Entry<Object, Object>> entrySet = new EntrySet();
+
+		@Override
+		public Object get(Object key) {
+			Object value = overlay.get(key);
+			if (value == null)
+				return key instanceof String ? original.getProperty((String) key) : null;
+			return value == REMOVED ? null : value;
+		}
+
+		@Override
+		public boolean containsKey(Object key) {
+			return get(key) != null;
+		}
+
+		@Override
+		public Object put(Object key, Object value) {
+			requireNonNull(key);
+			requireNonNull(value);
+			Object previousValue = get(key);
+			overlay.put(key, value);
+			return previousValue;
+		}
+
+		@Override
+		public Object remove(Object key) {
+			Object previousValue = get(key);
+			if (previousValue != null)
+				overlay.put(key, REMOVED);
+			return previousValue;
+		}
+
+		@Override
+		public void clear() {
+			original.stringPropertyNames().forEach(key -> overlay.put(key, REMOVED));
+			overlay.replaceAll((key, value) -> REMOVED);
+		}
+
+		@Override
+		public Set<Entry<Object, Object>> entrySet() {
+			return entrySet;
+		}
+
+	}
+
+	private final class EntrySet extends AbstractSet<Map.Entry<Object, Object>> {
+
+		@Override
+		public Iterator<Map.Entry<Object, Object>> iterator() {
+			return new EntryIterator();
+		}
+
+		@Override
+		public int size() {
+			int size = 0;
+			for (Iterator<?> iterator = iterator(); iterator.hasNext(); iterator.next())
+				size++;
+			return size;
+		}
+
+		@Override
+		public boolean isEmpty() {
+			return !iterator().hasNext();
+		}
+
+		@Override
+		public boolean contains(Object object) {
+			if (!(object instanceof Map.Entry))
+				return false;
+			Map.Entry<?, ?> entry = (Map.Entry<?, ?>) object;
+			Object value = entries.get(entry.getKey());
+			return value != null && value.equals(entry.getValue());
+		}
+
+		@Override
+		public boolean remove(Object object) {
+			if (!contains(object))
+				return false;
+			entries.remove(((Map.Entry<?, ?>) object).getKey());
+			return true;
+		}
+
+		@Override
+		public void clear() {
+			entries.clear();
+		}
+
+	}
+
+	/**
+	 * Iterates over the overlay's entries and then over the original's string properties
+	 * the overlay doesn't know; like the views of {@code ConcurrentHashMap}, it may or may
+	 * not reflect modifications made while iterating.
+	 */
+	private final class EntryIterator implements Iterator<Map.Entry<Object, Object>> {
+
+		private final Iterator<Map.Entry<Object, Object>> overlayEntries = overlay.entrySet().iterator();
+		// only created once the overlay's entries are exhausted
+		private Iterator<String> originalKeys;
+
+		private Map.Entry<Object, Object> next;
+		private Map.Entry<Object, Object> last;
+
+		@Override
+		public boolean hasNext() {
+			while (next == null) {
+				if (overlayEntries.hasNext()) {
+					Map.Entry<Object, Object> entry = overlayEntries.next();
+					if (entry.getValue() != REMOVED)
+						next = new LiveEntry(entry.getKey(), entry.getValue());
+					continue;
+				}
+				if (originalKeys == null)
+					originalKeys = original.stringPropertyNames().iterator();
+				if (!originalKeys.hasNext())
+					return false;
+				String key = originalKeys.next();
+				String value = original.getProperty(key);
+				if (value != null && !overlay.containsKey(key))
+					next = new LiveEntry(key, value);
+			}
+			return true;
+		}
+
+		@Override
+		public Map.Entry<Object, Object> next() {
+			if (!hasNext())
+				throw new NoSuchElementException();
+			last = next;
+			next = null;
+			return last;
+		}
+
+		@Override
+		public void remove() {
+			if (last == null)
+				throw new IllegalStateException();
+			entries.remove(last.getKey());
+			last = null;
+		}
+
+	}
+
+	private final class LiveEntry extends AbstractMap.SimpleEntry<Object, Object> {
+
+		private static final long serialVersionUID = 1L;
+
+		LiveEntry(Object key, Object value) {
+			super(key, value);
+		}
+
+		@Override
+		public Object setValue(Object value) {
+			entries.put(getKey(), value);
+			return super.setValue(value);
+		}
+
+	}
+
+}
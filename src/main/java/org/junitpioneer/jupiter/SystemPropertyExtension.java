@@ -62,6 +62,10 @@ class SystemPropertyExtension extends
 	 * complex they were. Any artifacts resulting from a flattened default structure are limited
 	 * to the context of the test.</p>
 	 *
+	 * <p>Instead of an eager clone, the replacement is an {@link OverlayProperties} that reads through
+	 * to the original and only records the entries that change, so entering and exiting the context
+	 * doesn't depend on the number of system properties.</p>
+	 *
 	 * <p>See {@link AbstractEntryBasedExtension#prepareToEnterRestorableContext} for more details.</p>
 	 *
 	 * @return The original {@link System#getProperties} object
@@ -69,9 +73,7 @@ class SystemPropertyExtension extends
 	@Override
 	protected Properties prepareToEnterRestorableContext() {
 		Properties current = System.getProperties();
-		Properties clone = createEffectiveClone(current);
-
-		System.setProperties(clone);
+		System.setProperties(OverlayProperties.over(current));
 
 		return current;
 	}
@@ -19,6 +19,18 @@ import java.util.function.Supplier;
 @Deprecated(forRemoval = true, since = "3.0")
 public interface TimeZoneProvider extends Supplier<TimeZone> {
 
+	/**
+	 * Whether the time zone returned by {@link #get()} can be reused for all tests that are annotated
+	 * with the same {@code @DefaultTimeZone}.
+	 * Providers that may return a different time zone each time should override this to return {@code false}.
+	 *
+	 * @return {@code true} by default
+	 * @since 3.0
+	 */
+	default boolean isCacheable() {
+		return true;
+	}
+
 	interface NullTimeZoneProvider extends TimeZoneProvider {
 	}
 
@@ -66,7 +66,7 @@ abstract class AbstractJsonArgumentsProvider<A extends Annotation>
 		if (property == null) {
 			return node.toType(parameter.getType());
 		} else {
-			return node.getNode(property.value()).map(value -> value.value(parameter.getType())).orElse(null);
+			return node.value(property.value(), parameter.getType());
 		}
 	}
 
@@ -97,10 +97,7 @@ abstract class AbstractJsonArgumentsProvider<A extends Annotation>
 					String name = property == null
 							? parameter.getName()
 							: property.value();
-					return node
-							.getNode(name)
-							.map(value -> value.value(parameter.getParameterizedType()))
-							.orElse(null);
+					return node.value(name, parameter.getParameterizedType());
 				})
 				.filter(Objects::nonNull)
 				.toArray();
@@ -10,12 +10,26 @@
 
 package org.junitpioneer.jupiter.json;
 
+import static java.util.stream.Collectors.toList;
+
+import java.io.IOException;
 import java.io.InputStream;
+import java.io.UncheckedIOException;
 import java.lang.annotation.Annotation;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
 import java.util.stream.Stream;
 
 import org.junit.jupiter.api.extension.ExtensionContext;
+import org.junit.jupiter.api.extension.ExtensionContext.Namespace;
+import org.junit.platform.commons.JUnitException;
 import org.junit.platform.commons.PreconditionViolationException;
 import org.junitpioneer.internal.PioneerPreconditions;
 
@@ -23,42 +37,164 @@ abstract class AbstractJsonSourceBasedArgumentsProvider<A extends Annotation> ex
 
 	// the reading of the resources / files is heavily inspired by Jupiter's CsvFileArgumentsProvider
 
-	private String dataLocation;
+	public static final String CACHE_CONFIG_PARAM = "org.junitpioneer.jupiter.json.cache";
+
+	private static final Namespace NAMESPACE = Namespace.create(AbstractJsonSourceBasedArgumentsProvider.class);
+	private static final String PARSED_NODES_KEY = "parsed nodes";
+
+	private DataPath dataPath;
 	private List<Source> sources;
+	private boolean parallel;
 
 	protected void accept(List<Source> sources, String dataLocation) {
+		accept(sources, dataLocation, false);
+	}
+
+	protected void accept(List<Source> sources, String dataLocation, boolean parallel) {
 		this.sources = sources;
-		this.dataLocation = dataLocation;
+		this.dataPath = DataPath.parse(dataLocation);
+		this.parallel = parallel;
 	}
 
 	@Override
 	protected Stream<Node> provideNodes(ExtensionContext context, JsonConverter jsonConverter) {
-		return PioneerPreconditions
-				.notEmpty(this.sources, "Value must not be empty")
+		List<Source> sources = PioneerPreconditions.notEmpty(this.sources, "Value must not be empty");
+		// @formatter:off
+		Stream<List<Node>> nodes = (parallel && sources.size() > 1)
+				? parseConcurrently(sources, context, jsonConverter)
+				: sources.stream()
+						.map(source -> parse(source, context, jsonConverter));
+		// @formatter:on
+		return nodes.flatMap(List::stream);
+	}
+
+	/**
+	 * Reads and parses all sources concurrently, but returns the nodes in the order
+	 * of the sources, so arguments don't depend on which file was parsed first.
+	 */
+	private Stream<List<Node>> parseConcurrently(List<Source> sources, ExtensionContext context,
+			JsonConverter jsonConverter) {
+		List<Future<List<Node>>> parsedNodes = sources
 				.stream()
-				.map(source -> source.open(context))
-				.map(jsonConverter::toNode)
-				.flatMap(this::extractArgumentNodes);
+				.map(source -> ParserPool.EXECUTOR.submit(() -> parse(source, context, jsonConverter)))
+				.collect(toList());
+		return parsedNodes.stream().map(AbstractJsonSourceBasedArgumentsProvider::await).collect(toList()).stream();
 	}
 
-	private Stream<Node> extractArgumentNodes(Node node) {
-		// @formatter:off
-		Node nodeForExtraction = (dataLocation == null || dataLocation.isEmpty())
-				? node
-				: node.getNode(dataLocation)
-						.orElseThrow(() -> new PreconditionViolationException(
-							"Node " + node + " does not have data element at " + dataLocation));
-		// @formatter:on
-		if (nodeForExtraction.isArray()) {
-			return nodeForExtraction.elements();
+	/**
+	 * Parses the source and returns the nodes that are turned into arguments.
+	 */
+	private List<Node> parse(Source source, ExtensionContext context, JsonConverter jsonConverter) {
+		boolean cacheEnabled = context.getConfigurationParameter(CACHE_CONFIG_PARAM, Boolean::parseBoolean).orElse(false);
+		Object cacheKey = cacheEnabled ? source.cacheKey(context) : null;
+		if (cacheKey == null)
+			return toArgumentNodes(select(source, context, jsonConverter), source);
+
+		// the entire document is cached, so tests with different data paths can share it;
+		// nodes hold on to the converter that created them, so it needs to be part of the key
+		Node node = parsedNodes(context)
+				.computeIfAbsent(List.of(jsonConverter, cacheKey), __ -> read(source, context, jsonConverter));
+		return toArgumentNodes(dataPath.select(node), node);
+	}
+
+	@SuppressWarnings("unchecked")
+	private static Map<Object, Node> parsedNodes(ExtensionContext context) {
+		// the root context lives for the entire test run, so each source is parsed at most once per run
+		return context
+				.getRoot()
+				.getStore(NAMESPACE)
+				.computeIfAbsent(PARSED_NODES_KEY, __ -> new ConcurrentHashMap<Object, Node>(), Map.class);
+	}
+
+	private static Node read(Source source, ExtensionContext context, JsonConverter jsonConverter) {
+		try (InputStream stream = source.open(context)) {
+			return jsonConverter.toNode(stream);
+		}
+		catch (IOException ex) {
+			throw new UncheckedIOException("Failed to close JSON source", ex);
+		}
+	}
+
+	private List<Node> select(Source source, ExtensionContext context, JsonConverter jsonConverter) {
+		if (dataPath.isRoot())
+			return List.of(read(source, context, jsonConverter));
+		// only build the nodes the path points to instead of the entire document
+		try (InputStream stream = source.open(context)) {
+			return jsonConverter.toNodes(stream, dataPath);
+		}
+		catch (IOException ex) {
+			throw new UncheckedIOException("Failed to close JSON source", ex);
+		}
+	}
+
+	/**
+	 * @param origin what the nodes were selected from, used in the error message
+	 */
+	private List<Node> toArgumentNodes(List<Node> selectedNodes, Object origin) {
+		if (selectedNodes.isEmpty())
+			throw new PreconditionViolationException(
+				"Node " + origin + " does not have data element at " + dataPath);
+		if (!dataPath.hasWildcard() && selectedNodes.size() == 1 && selectedNodes.get(0).isArray())
+			return selectedNodes.get(0).elements().collect(toList());
+		return selectedNodes;
+	}
+
+	private static List<Node> await(Future<List<Node>> parsedNode) {
+		try {
+			return parsedNode.get();
+		}
+		catch (InterruptedException ex) {
+			Thread.currentThread().interrupt();
+			throw new JUnitException("Interrupted while parsing JSON sources", ex);
+		}
+		catch (ExecutionException ex) {
+			// rethrow unchecked exceptions as is, so failures look the same as in sequential parsing
+			Throwable cause = ex.getCause();
+			if (cause instanceof RuntimeException)
+				throw (RuntimeException) cause;
+			if (cause instanceof Error)
+				throw (Error) cause;
+			throw new JUnitException("Failed to parse JSON source", cause);
 		}
-		return Stream.of(nodeForExtraction);
+	}
+
+	/**
+	 * Holds the executor that parses sources concurrently, so it's only created when first needed
+	 * and then shared by all providers.
+	 */
+	private static final class ParserPool {
+
+		private static final ExecutorService EXECUTOR = createExecutor();
+
+		private static ExecutorService createExecutor() {
+			int threads = Runtime.getRuntime().availableProcessors();
+			ThreadPoolExecutor executor = new ThreadPoolExecutor(threads, threads, 10, TimeUnit.SECONDS,
+				new LinkedBlockingQueue<>(), runnable -> {
+					Thread thread = new Thread(runnable, "junit-pioneer-json-parser");
+					// neither running nor idle parsers must keep the JVM alive
+					thread.setDaemon(true);
+					return thread;
+				});
+			executor.allowCoreThreadTimeOut(true);
+			return executor;
+		}
+
 	}
 
 	interface Source {
 
 		InputStream open(ExtensionContext context);
 
+		/**
+		 * Identifies the current content of this source, so the parsed node can be reused
+		 * as long as the content doesn't change.
+		 *
+		 * @return the key or {@code null} if this source's content can't be identified
+		 */
+		default Object cacheKey(ExtensionContext context) {
+			return null;
+		}
+
 	}
 
 }
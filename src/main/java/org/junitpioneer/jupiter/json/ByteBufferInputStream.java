@@ -0,0 +1,62 @@
+/*
+ * Copyright 2016-2023 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v2.0 which
+ * accompanies this distribution and is available at
+ *
+ * http://www.eclipse.org/legal/epl-v20.html
+ */
+
+package org.junitpioneer.jupiter.json;
+
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+
+/**
+ * An {@link InputStream} that reads from a {@link ByteBuffer}, e.g. a memory-mapped file.
+ *
+ * <p>The stream reads from its own view of the buffer, so the given buffer's position
+ * and limit are never changed.</p>
+ */
+class ByteBufferInputStream extends InputStream {
+
+	private final ByteBuffer buffer;
+
+	ByteBufferInputStream(ByteBuffer buffer) {
+		this.buffer = buffer.slice();
+	}
+
+	@Override
+	public int read() {
+		if (!buffer.hasRemaining())
+			return -1;
+		return buffer.get() & 0xFF;
+	}
+
+	@Override
+	public int read(byte[] bytes, int offset, int length) {
+		if (length == 0)
+			return 0;
+		if (!buffer.hasRemaining())
+			return -1;
+		int read = Math.min(length, buffer.remaining());
+		buffer.get(bytes, offset, read);
+		return read;
+	}
+
+	@Override
+	public long skip(long count) {
+		if (count <= 0)
+			return 0;
+		int skipped = (int) Math.min(count, buffer.remaining());
+		buffer.position(buffer.position() + skipped);
+		return skipped;
+	}
+
+	@Override
+	public int available() {
+		return buffer.remaining();
+	}
+
+}
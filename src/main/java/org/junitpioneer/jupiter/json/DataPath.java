@@ -0,0 +1,184 @@
+/*
+ * Copyright 2016-2023 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v2.0 which
+ * accompanies this distribution and is available at
+ *
+ * http://www.eclipse.org/legal/epl-v20.html
+ */
+
+package org.junitpioneer.jupiter.json;
+
+import static java.util.stream.Collectors.toUnmodifiableList;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+
+import org.junit.platform.commons.PreconditionViolationException;
+
+/**
+ * A path to the data in a JSON document as given to {@link JsonFileSource#data()}
+ * and {@link JsonClasspathSource#data()}.
+ *
+ * <p>A path consists of field names separated by {@code .}, each of which can be followed
+ * by array selectors: {@code [n]} selects the element at index {@code n} and {@code [*]}
+ * selects all elements. Array selectors can also start a path, e.g. {@code [0].cases}.
+ * The empty path selects the root.</p>
+ *
+ * <p>A backslash makes the next character part of the field name, so field names that
+ * contain {@code .}, {@code [}, or {@code \} can still be selected, e.g. {@code data = "v1\\.2"}
+ * selects the field {@code v1.2}.</p>
+ */
+class DataPath {
+
+	static final DataPath ROOT = new DataPath("", List.of());
+
+	private static final char ESCAPE = '\\';
+
+	private final String expression;
+	private final List<Step> steps;
+
+	private DataPath(String expression, List<Step> steps) {
+		this.expression = expression;
+		this.steps = steps;
+	}
+
+	static DataPath parse(String expression) {
+		if (expression == null || expression.isEmpty())
+			return ROOT;
+
+		List<Step> steps = new ArrayList<>();
+		int position = 0;
+		while (position < expression.length()) {
+			char current = expression.charAt(position);
+			if (current == '[') {
+				int end = expression.indexOf(']', position);
+				if (end < 0)
+					throw invalidPath(expression);
+				steps.add(Step.forSelector(expression.substring(position + 1, end), expression));
+				position = end + 1;
+			} else {
+				if (current == '.') {
+					// a dot separates steps, so it can neither start nor end the path
+					if (position == 0 || position == expression.length() - 1)
+						throw invalidPath(expression);
+					position++;
+				} else if (position > 0) {
+					// a field must be separated from a preceding array selector by a dot
+					throw invalidPath(expression);
+				}
+				StringBuilder field = new StringBuilder();
+				int end = position;
+				while (end < expression.length() && expression.charAt(end) != '.' && expression.charAt(end) != '[') {
+					if (expression.charAt(end) == ESCAPE) {
+						end++;
+						// an escape character needs a character to escape
+						if (end == expression.length())
+							throw invalidPath(expression);
+					}
+					field.append(expression.charAt(end));
+					end++;
+				}
+				if (end == position)
+					throw invalidPath(expression);
+				steps.add(Step.forField(field.toString()));
+				position = end;
+			}
+		}
+		return new DataPath(expression, List.copyOf(steps));
+	}
+
+	private static PreconditionViolationException invalidPath(String expression) {
+		return new PreconditionViolationException("Invalid data path: " + expression);
+	}
+
+	boolean isRoot() {
+		return steps.isEmpty();
+	}
+
+	/**
+	 * If a path has a wildcard, each node it selects is one argument;
+	 * otherwise, a selected array is turned into one argument per element.
+	 */
+	boolean hasWildcard() {
+		return steps.stream().anyMatch(Step::isWildcard);
+	}
+
+	List<Step> steps() {
+		return steps;
+	}
+
+	/**
+	 * Selects the nodes this path points to from an already parsed tree.
+	 */
+	List<Node> select(Node root) {
+		Stream<Node> selected = Stream.of(root);
+		for (Step step : steps)
+			selected = selected.flatMap(step::select);
+		return selected.collect(toUnmodifiableList());
+	}
+
+	@Override
+	public String toString() {
+		return expression;
+	}
+
+	static class Step {
+
+		private static final int ALL_ELEMENTS = -1;
+
+		private final String field;
+		private final int index;
+
+		private Step(String field, int index) {
+			this.field = field;
+			this.index = index;
+		}
+
+		static Step forField(String field) {
+			return new Step(field, ALL_ELEMENTS);
+		}
+
+		static Step forSelector(String selector, String expression) {
+			if (selector.equals("*"))
+				return new Step(null, ALL_ELEMENTS);
+			try {
+				int index = Integer.parseInt(selector);
+				if (index < 0)
+					throw invalidPath(expression);
+				return new Step(null, index);
+			}
+			catch (NumberFormatException ex) {
+				throw invalidPath(expression);
+			}
+		}
+
+		boolean isField() {
+			return field != null;
+		}
+
+		boolean isWildcard() {
+			return field == null && index == ALL_ELEMENTS;
+		}
+
+		String field() {
+			return field;
+		}
+
+		boolean selectsElement(int elementIndex) {
+			return index == ALL_ELEMENTS || index == elementIndex;
+		}
+
+		private Stream<Node> select(Node node) {
+			if (isField())
+				return node.getNode(field).stream();
+			if (!node.isArray())
+				return Stream.empty();
+			return isWildcard() ? node.elements() : node.elements().skip(index).limit(1);
+		}
+
+	}
+
+}
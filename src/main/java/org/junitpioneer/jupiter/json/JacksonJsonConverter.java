@@ -16,9 +16,14 @@ import static java.util.stream.Collectors.toMap;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Map;
 import java.util.ServiceLoader;
+import java.util.concurrent.ConcurrentHashMap;
 
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 
@@ -31,6 +36,9 @@ class JacksonJsonConverter implements JsonConverter {
 
 	private static final Map<String, ObjectMapperProvider> OBJECT_MAPPERS = loadObjectMappers();
 
+	// object mappers are thread-safe and expensive to create, so converters are shared
+	private static final Map<String, JacksonJsonConverter> CONVERTERS = new ConcurrentHashMap<>();
+
 	private final ObjectMapper objectMapper;
 
 	private final ObjectMapper lenientObjectMapper;
@@ -60,6 +68,60 @@ class JacksonJsonConverter implements JsonConverter {
 		}
 	}
 
+	@Override
+	public List<Node> toNodes(InputStream stream, DataPath path) {
+		try (JsonParser parser = objectMapper.createParser(stream)) {
+			List<Node> nodes = new ArrayList<>();
+			if (parser.nextToken() != null)
+				select(parser, path.steps(), 0, nodes);
+			return nodes;
+		}
+		catch (IOException e) {
+			throw new UncheckedIOException("Failed to read stream", e);
+		}
+	}
+
+	/**
+	 * Follows the path from the value the parser currently points to and skips all
+	 * subtrees that aren't on it, so only the selected nodes are built.
+	 * Leaves the parser at the last token of the current value.
+	 */
+	private void select(JsonParser parser, List<DataPath.Step> steps, int stepIndex, List<Node> nodes)
+			throws IOException {
+		if (stepIndex == steps.size()) {
+			JsonNode jsonNode = objectMapper.readTree(parser);
+			nodes.add(new JacksonNode(objectMapper, jsonNode));
+			return;
+		}
+
+		DataPath.Step step = steps.get(stepIndex);
+		JsonToken expectedStart = step.isField() ? JsonToken.START_OBJECT : JsonToken.START_ARRAY;
+		if (parser.currentToken() != expectedStart) {
+			parser.skipChildren();
+			return;
+		}
+
+		if (step.isField()) {
+			while (parser.nextToken() == JsonToken.FIELD_NAME) {
+				boolean selected = step.field().equals(parser.currentName());
+				parser.nextToken();
+				if (selected)
+					select(parser, steps, stepIndex + 1, nodes);
+				else
+					parser.skipChildren();
+			}
+		} else {
+			int elementIndex = 0;
+			while (parser.nextToken() != JsonToken.END_ARRAY) {
+				if (step.selectsElement(elementIndex))
+					select(parser, steps, stepIndex + 1, nodes);
+				else
+					parser.skipChildren();
+				elementIndex++;
+			}
+		}
+	}
+
 	@Override
 	public Node toNode(String value, boolean lenient) {
 		try {
@@ -76,7 +138,7 @@ class JacksonJsonConverter implements JsonConverter {
 	}
 
 	static JacksonJsonConverter getConverter(String objectMapperId) {
-		return new JacksonJsonConverter(OBJECT_MAPPERS.get(objectMapperId));
+		return CONVERTERS.computeIfAbsent(objectMapperId, id -> new JacksonJsonConverter(OBJECT_MAPPERS.get(id)));
 	}
 
 }
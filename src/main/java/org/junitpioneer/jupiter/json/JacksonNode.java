@@ -45,8 +45,12 @@ class JacksonNode implements Node {
 
 	@Override
 	public <T> T toType(Type type) {
+		return toType(node, type);
+	}
+
+	private <T> T toType(JsonNode jsonNode, Type type) {
 		try {
-			return objectMapper.treeToValue(node, objectMapper.constructType(type));
+			return objectMapper.treeToValue(jsonNode, objectMapper.constructType(type));
 		}
 		catch (JsonProcessingException e) {
 			throw new UncheckedIOException("Failed to convert to type " + type, e);
@@ -64,28 +68,31 @@ class JacksonNode implements Node {
 
 	@Override
 	public Object value(Type typeHint) {
-		if (node.isTextual()) {
-			return node.textValue();
-		} else if (node.isInt()) {
-			return node.intValue();
-		} else if (node.isLong()) {
-			return node.longValue();
-		} else if (node.isDouble()) {
-			return node.doubleValue();
-		} else if (node.isBoolean()) {
-			return node.booleanValue();
-		} else if (node.isShort()) {
-			return node.shortValue();
-		} else if (node.isFloat()) {
-			return node.floatValue();
-		} else if (node.isBigDecimal()) {
-			return node.decimalValue();
-		} else if (node.isBigInteger()) {
-			return node.bigIntegerValue();
-		} else if (node.isObject() || node.isArray()) {
-			return toType(typeHint);
+		return value(node, typeHint);
+	}
+
+	@Override
+	public Object value(String name, Type typeHint) {
+		// look up the child directly instead of wrapping it in a node and an `Optional`
+		JsonNode jsonNode = node.get(name);
+		return jsonNode == null ? null : value(jsonNode, typeHint);
+	}
+
+	private Object value(JsonNode jsonNode, Type typeHint) {
+		switch (jsonNode.getNodeType()) {
+			case STRING:
+				return jsonNode.textValue();
+			case NUMBER:
+				// the boxed type matches the node's number type, e.g. `Integer` for an `IntNode`
+				return jsonNode.numberValue();
+			case BOOLEAN:
+				return jsonNode.booleanValue();
+			case OBJECT:
+			case ARRAY:
+				return toType(jsonNode, typeHint);
+			default:
+				return jsonNode;
 		}
-		return node;
 	}
 
 	@Override
@@ -53,8 +53,14 @@ public @interface JsonClasspathSource {
 	String[] value() default {};
 
 	/**
-	 * The name of the element from which the data should be extracted from.
+	 * The path to the element from which the data should be extracted from.
 	 * If not set the root element will be used.
+	 *
+	 * <p>The path can be a single element name like {@code "vehicles"} or point into nested
+	 * elements and arrays, e.g. {@code "cases.regression[*]"} or {@code "cases.regression[0]"}.
+	 * Only the selected elements are fully parsed, everything else is skipped.
+	 * Element names that contain {@code .} or {@code [} must escape them with a backslash,
+	 * e.g. {@code "v1\\.2"}.</p>
 	 */
 	String data() default "";
 
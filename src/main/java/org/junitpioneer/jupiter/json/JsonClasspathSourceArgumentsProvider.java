@@ -13,9 +13,11 @@ package org.junitpioneer.jupiter.json;
 import static java.util.stream.Collectors.toUnmodifiableList;
 
 import java.io.InputStream;
+import java.net.URL;
 import java.util.Arrays;
 import java.util.stream.Stream;
 
+import org.junit.jupiter.api.extension.ExtensionContext;
 import org.junitpioneer.internal.PioneerPreconditions;
 
 /**
@@ -35,12 +37,39 @@ class JsonClasspathSourceArgumentsProvider extends AbstractJsonSourceBasedArgume
 	}
 
 	private static Source classpathResource(String resource) {
-		return context -> {
+		return new ClasspathSource(resource);
+	}
+
+	private static class ClasspathSource implements Source {
+
+		private final String resource;
+
+		ClasspathSource(String resource) {
+			this.resource = resource;
+		}
+
+		@Override
+		public InputStream open(ExtensionContext context) {
 			PioneerPreconditions.notBlank(resource, "Classpath resource must not be null or blank");
 			InputStream stream = context.getRequiredTestClass().getClassLoader().getResourceAsStream(resource);
 			PioneerPreconditions.notNull(stream, "Classpath resource [" + resource + "] does not exist");
 			return stream;
-		};
+		}
+
+		@Override
+		public String toString() {
+			return resource;
+		}
+
+		@Override
+		public Object cacheKey(ExtensionContext context) {
+			if (resource == null || resource.isBlank())
+				return null;
+			// the same name can refer to different resources for different class loaders
+			URL url = context.getRequiredTestClass().getClassLoader().getResource(resource);
+			return url == null ? null : url.toString();
+		}
+
 	}
 
 }
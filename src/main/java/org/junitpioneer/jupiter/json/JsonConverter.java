@@ -11,6 +11,7 @@
 package org.junitpioneer.jupiter.json;
 
 import java.io.InputStream;
+import java.util.List;
 
 /**
  * A JSON Converter which parses an input stream into a Node.
@@ -26,6 +27,16 @@ interface JsonConverter {
 	 */
 	Node toNode(InputStream stream);
 
+	/**
+	 * Convert the parts of the given {@code stream} that {@code path} points to into {@link Node}s.
+	 * Implementations should skip everything else without converting it.
+	 *
+	 * @param stream the stream that should be converted
+	 * @param path the path to the parts of the stream that should be converted
+	 * @return the {@link Node}s the path points to in document order, never {@code null}
+	 */
+	List<Node> toNodes(InputStream stream, DataPath path);
+
 	/**
 	 * Convert the given {@code value} into a {@link Node}
 	 *
@@ -49,13 +49,32 @@ public @interface JsonFileSource {
 
 	/**
 	 * The JSON files to use as the sources of arguments; must not be empty.
+	 *
+	 * <p>Entries that start with {@code glob:} are glob patterns (e.g.
+	 * {@code "glob:fixtures/**&#47;*.json"}, see {@link java.nio.file.FileSystem#getPathMatcher(String)}),
+	 * in which case all matching files are used in lexicographical order of their paths.
+	 * All other entries are file paths, even if they contain characters like {@code *} or {@code [}.</p>
 	 */
 	String[] value() default {};
 
 	/**
-	 * The name of the element from which the data should be extracted from.
+	 * The path to the element from which the data should be extracted from.
 	 * If not set the root element will be used.
+	 *
+	 * <p>The path can be a single element name like {@code "vehicles"} or point into nested
+	 * elements and arrays, e.g. {@code "cases.regression[*]"} or {@code "cases.regression[0]"}.
+	 * Only the selected elements are fully parsed, everything else is skipped.
+	 * Element names that contain {@code .} or {@code [} must escape them with a backslash,
+	 * e.g. {@code "v1\\.2"}.</p>
 	 */
 	String data() default "";
 
+	/**
+	 * Whether the files should be read and parsed concurrently.
+	 * The order of the arguments is the same as when parsing the files one after another.
+	 *
+	 * @since 3.0
+	 */
+	boolean parallel() default false;
+
 }
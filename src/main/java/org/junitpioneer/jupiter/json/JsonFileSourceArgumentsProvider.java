@@ -13,13 +13,23 @@ package org.junitpioneer.jupiter.json;
 import static java.util.stream.Collectors.toUnmodifiableList;
 
 import java.io.IOException;
+import java.io.InputStream;
 import java.io.UncheckedIOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileChannel.MapMode;
+import java.nio.file.FileSystems;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.nio.file.PathMatcher;
 import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
 import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
 import java.util.stream.Stream;
 
+import org.junit.jupiter.api.extension.ExtensionContext;
 import org.junit.platform.commons.PreconditionViolationException;
 import org.junitpioneer.internal.PioneerPreconditions;
 
@@ -30,25 +40,149 @@ class JsonFileSourceArgumentsProvider extends AbstractJsonSourceBasedArgumentsPr
 
 	// the reading of the resources / files is heavily inspired by Jupiter's CsvFileArgumentsProvider
 
+	private static final String GLOB_SYNTAX = "glob:";
+	private static final String GLOB_CHARACTERS = "*?[{";
+
+	/**
+	 * Files of at least this size are memory-mapped instead of being read through a regular stream.
+	 * For smaller files, the cost of setting up the mapping outweighs the faster reads.
+	 */
+	static final long MEMORY_MAPPING_THRESHOLD = 1024 * 1024;
+
+	// a mapping is only released when its buffer is garbage collected and until then,
+	// Windows keeps the file from being deleted or replaced, so files are never mapped there
+	private static final boolean MEMORY_MAPPING_ENABLED = !System
+			.getProperty("os.name", "")
+			.toLowerCase(Locale.ROOT)
+			.startsWith("windows");
+
 	@Override
 	public void accept(JsonFileSource jsonSource) {
-		Stream<Source> files = Arrays.stream(jsonSource.value()).map(JsonFileSourceArgumentsProvider::fileResource);
-		accept(files.collect(toUnmodifiableList()), jsonSource.data());
+		Stream<Source> files = Arrays
+				.stream(jsonSource.value())
+				.flatMap(JsonFileSourceArgumentsProvider::expandGlob)
+				.map(JsonFileSourceArgumentsProvider::fileResource);
+		accept(files.collect(toUnmodifiableList()), jsonSource.data(), jsonSource.parallel());
+	}
+
+	private static Stream<String> expandGlob(String file) {
+		// file names can contain glob characters, so only explicitly marked patterns are expanded
+		if (file == null || !file.startsWith(GLOB_SYNTAX))
+			return Stream.of(file);
+
+		String pattern = file.substring(GLOB_SYNTAX.length());
+		PathMatcher matcher = FileSystems.getDefault().getPathMatcher(file);
+		List<String> files = findMatchingFiles(file, baseDirectory(pattern), matcher);
+		if (files.isEmpty())
+			throw new PreconditionViolationException("No files match the pattern: " + file);
+		return files.stream();
+	}
+
+	/**
+	 * Returns the deepest directory that the pattern names without glob characters,
+	 * so only that one needs to be walked instead of the entire working directory.
+	 */
+	private static Path baseDirectory(String pattern) {
+		int firstGlobCharacter = indexOfGlobCharacter(pattern);
+		String literalPrefix = firstGlobCharacter < 0 ? pattern : pattern.substring(0, firstGlobCharacter);
+		Path prefix = Paths.get(literalPrefix);
+		// `fixtures/` names a directory, but `fixtures/jedi` may be the start of a file name in `fixtures`
+		// (glob patterns always accept `/` as separator, the platform's separator may be different)
+		boolean namesDirectory = literalPrefix.isEmpty() || literalPrefix.endsWith("/")
+				|| literalPrefix.endsWith(prefix.getFileSystem().getSeparator());
+		if (namesDirectory)
+			return prefix;
+		Path parent = prefix.getParent();
+		return parent == null ? Paths.get("") : parent;
+	}
+
+	private static int indexOfGlobCharacter(String pattern) {
+		for (int i = 0; i < pattern.length(); i++)
+			if (GLOB_CHARACTERS.indexOf(pattern.charAt(i)) >= 0)
+				return i;
+		return -1;
+	}
+
+	private static List<String> findMatchingFiles(String pattern, Path baseDirectory, PathMatcher matcher) {
+		if (!Files.isDirectory(baseDirectory))
+			return List.of();
+		try (Stream<Path> paths = Files.walk(baseDirectory)) {
+			return paths
+					.filter(Files::isRegularFile)
+					// the walked paths start with the base directory, just like the pattern
+					.filter(matcher::matches)
+					.map(Path::toString)
+					.sorted()
+					.collect(toUnmodifiableList());
+		}
+		catch (IOException e) {
+			throw new UncheckedIOException("Failed to resolve file pattern " + pattern, e);
+		}
+	}
+
+	static Source fileResource(String file) {
+		return new FileSource(file);
 	}
 
-	private static Source fileResource(String file) {
-		return context -> {
+	private static InputStream open(Path file) throws IOException {
+		return open(file, MEMORY_MAPPING_ENABLED ? MEMORY_MAPPING_THRESHOLD : Long.MAX_VALUE);
+	}
+
+	static InputStream open(Path file, long memoryMappingThreshold) throws IOException {
+		long size = Files.size(file);
+		// a single mapping can't be larger than `Integer.MAX_VALUE` bytes
+		if (size < memoryMappingThreshold || size > Integer.MAX_VALUE)
+			return Files.newInputStream(file);
+		try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+			// the mapping stays valid after the channel is closed, but the mapped memory
+			// is only released once the buffer is garbage collected
+			MappedByteBuffer mappedFile = channel.map(MapMode.READ_ONLY, 0, size);
+			return new ByteBufferInputStream(mappedFile);
+		}
+	}
+
+	private static class FileSource implements Source {
+
+		private final String file;
+
+		FileSource(String file) {
+			this.file = file;
+		}
+
+		@Override
+		public InputStream open(ExtensionContext context) {
 			PioneerPreconditions.notBlank(file, "File must not be null or blank");
 			Path filePath = Paths.get(file);
 			if (!Files.exists(filePath))
 				throw new PreconditionViolationException("File does not exist: " + file);
 			try {
-				return Files.newInputStream(filePath);
+				return JsonFileSourceArgumentsProvider.open(filePath);
 			}
 			catch (IOException e) {
 				throw new UncheckedIOException("Failed to read file " + file, e);
 			}
-		};
+		}
+
+		@Override
+		public String toString() {
+			return file;
+		}
+
+		@Override
+		public Object cacheKey(ExtensionContext context) {
+			if (file == null || file.isBlank())
+				return null;
+			Path filePath = Paths.get(file).toAbsolutePath().normalize();
+			try {
+				// size and modification time change when the file is rewritten during the test run
+				return filePath + ":" + Files.size(filePath) + ":" + Files.getLastModifiedTime(filePath).toMillis();
+			}
+			catch (IOException e) {
+				// let `open` report the problem
+				return null;
+			}
+		}
+
 	}
 
 }
@@ -55,4 +55,17 @@ interface Node {
 	 */
 	Object value(Type typeHint);
 
+	/**
+	 * Get the value of the node with the given name.
+	 * Equivalent to {@code getNode(name).map(node -> node.value(typeHint)).orElse(null)}
+	 * but implementations can avoid creating intermediate nodes.
+	 *
+	 * @param name the name of the node
+	 * @param typeHint the potential type of the value
+	 * @return the value of the node for the given name or {@code null} if there is none
+	 */
+	default Object value(String name, Type typeHint) {
+		return getNode(name).map(node -> node.value(typeHint)).orElse(null);
+	}
+
 }
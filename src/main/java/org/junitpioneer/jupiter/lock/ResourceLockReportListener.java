@@ -0,0 +1,292 @@
+/*
+ * Copyright 2016-2023 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v2.0 which
+ * accompanies this distribution and is available at
+ *
+ * http://www.eclipse.org/legal/epl-v20.html
+ */
+
+package org.junitpioneer.jupiter.lock;
+
+import static java.lang.String.format;
+import static java.util.Comparator.comparingLong;
+import static java.util.stream.Collectors.groupingBy;
+import static java.util.stream.Collectors.joining;
+import static java.util.stream.Collectors.toList;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.lang.reflect.AnnotatedElement;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Queue;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.parallel.ResourceAccessMode;
+import org.junit.jupiter.api.parallel.ResourceLock;
+import org.junit.jupiter.api.parallel.Resources;
+import org.junit.platform.commons.support.AnnotationSupport;
+import org.junit.platform.engine.TestExecutionResult;
+import org.junit.platform.engine.TestSource;
+import org.junit.platform.engine.support.descriptor.ClassSource;
+import org.junit.platform.engine.support.descriptor.MethodSource;
+import org.junit.platform.launcher.TestExecutionListener;
+import org.junit.platform.launcher.TestIdentifier;
+import org.junit.platform.launcher.TestPlan;
+
+/**
+ * This listener measures how long tests and containers hold the resource locks that Pioneer's annotations declare
+ * (e.g. {@code @WritesSystemProperty} or {@code @DefaultLocale}).
+ * After all tests are finished, it writes a report to the file configured by {@value #REPORT_CONFIG_PARAM} that
+ * shows which classes and tests hold these locks the longest and thus keep other tests from running in parallel.
+ * (Build tools tend to swallow or interleave what listeners print to {@code System.out}, so it goes to a file.)
+ *
+ * <p>JUnit acquires resource locks before it reports a test as started, so listeners can't observe the time
+ * a test spends waiting for a lock. The report shows how long each lock was <em>held</em> instead, which is the
+ * time other tests that need the same lock had to wait.</p>
+ */
+public class ResourceLockReportListener implements TestExecutionListener {
+
+	public static final String REPORT_CONFIG_PARAM = "org.junitpioneer.jupiter.resourcelock.report";
+
+	// the resources locked by Pioneer's annotations
+	// @formatter:off
+	private static final Set<String> PIONEER_RESOURCES = Set.of(
+			Resources.SYSTEM_PROPERTIES, "java.lang.System.environment", "java.lang.System.in",
+			Resources.SYSTEM_OUT, Resources.SYSTEM_ERR, Resources.LOCALE, Resources.TIME_ZONE);
+	// @formatter:on
+
+	private static final String NEW_LINE = System.lineSeparator();
+	private static final String INDENT = "    ";
+
+	private final ConcurrentMap<String, Long> startTimes = new ConcurrentHashMap<>();
+	private final Queue<LockHolder> lockHolders = new ConcurrentLinkedQueue<>();
+
+	/**
+	 * This listener will be active as soon as Pioneer is on the class/module path.
+	 * Since most runs don't need the report, it only collects data if the configuration parameter
+	 * {@value #REPORT_CONFIG_PARAM} is set to the path of the report file.
+	 */
+	private volatile boolean active;
+	private volatile Path reportFile;
+	private volatile TestPlan testPlan;
+
+	@Override
+	public void testPlanExecutionStarted(TestPlan testPlan) {
+		this.reportFile = testPlan
+				.getConfigurationParameters()
+				.get(REPORT_CONFIG_PARAM)
+				.filter(path -> !path.isBlank())
+				.map(path -> Paths.get(path.trim()))
+				.orElse(null);
+		this.active = reportFile != null;
+		this.testPlan = testPlan;
+	}
+
+	@Override
+	public void executionStarted(TestIdentifier testIdentifier) {
+		if (!active)
+			return;
+
+		startTimes.put(testIdentifier.getUniqueId(), System.nanoTime());
+	}
+
+	@Override
+	public void executionFinished(TestIdentifier testIdentifier, TestExecutionResult testExecutionResult) {
+		if (!active)
+			return;
+
+		Long startTime = startTimes.remove(testIdentifier.getUniqueId());
+		if (startTime == null)
+			return;
+		long heldNanos = System.nanoTime() - startTime;
+		Map<String, ResourceAccessMode> locks = findPioneerLocks(testIdentifier);
+		if (!locks.isEmpty())
+			lockHolders.add(new LockHolder(testIdentifier, className(testIdentifier), locks, heldNanos));
+	}
+
+	@Override
+	public void testPlanExecutionFinished(TestPlan testPlan) {
+		if (!active)
+			return;
+
+		try {
+			writeReport(createReport(lockHolders));
+		}
+		finally {
+			lockHolders.clear();
+			startTimes.clear();
+		}
+	}
+
+	private void writeReport(String report) {
+		try {
+			Path directory = reportFile.toAbsolutePath().getParent();
+			if (directory != null)
+				Files.createDirectories(directory);
+			Files.writeString(reportFile, report);
+		}
+		catch (IOException ex) {
+			throw new UncheckedIOException(format("Could not write the resource lock report to %s", reportFile), ex);
+		}
+	}
+
+	private Map<String, ResourceAccessMode> findPioneerLocks(TestIdentifier testIdentifier) {
+		Optional<TestSource> source = testIdentifier.getSource();
+		// the invocations of a test template share its method and thus its locks,
+		// but JUnit acquires them for the template, which is already accounted for
+		if (source.isEmpty() || isTemplateInvocation(testIdentifier, source.get()))
+			return Map.of();
+
+		return annotatedElement(source.get())
+				.map(element -> AnnotationSupport.findRepeatableAnnotations(element, ResourceLock.class))
+				.orElse(List.of())
+				.stream()
+				.filter(lock -> PIONEER_RESOURCES.contains(lock.value()))
+				.collect(TreeMap::new, ResourceLockReportListener::addLock, Map::putAll);
+	}
+
+	private boolean isTemplateInvocation(TestIdentifier testIdentifier, TestSource source) {
+		if (!(source instanceof MethodSource) || testPlan == null)
+			return false;
+		return testPlan
+				.getParent(testIdentifier)
+				.flatMap(TestIdentifier::getSource)
+				.filter(parentSource -> parentSource instanceof MethodSource)
+				.map(parentSource -> isSameMethod((MethodSource) source, (MethodSource) parentSource))
+				.orElse(false);
+	}
+
+	private static boolean isSameMethod(MethodSource source, MethodSource other) {
+		return source.getClassName().equals(other.getClassName())
+				&& source.getMethodName().equals(other.getMethodName());
+	}
+
+	private static Optional<AnnotatedElement> annotatedElement(TestSource source) {
+		if (source instanceof MethodSource)
+			return Optional.of(((MethodSource) source).getJavaMethod());
+		if (source instanceof ClassSource)
+			return Optional.of(((ClassSource) source).getJavaClass());
+		return Optional.empty();
+	}
+
+	private static String className(TestIdentifier testIdentifier) {
+		// only called for identifiers with a method or class source
+		TestSource source = testIdentifier.getSource().orElseThrow();
+		return source instanceof MethodSource
+				? ((MethodSource) source).getClassName()
+				: ((ClassSource) source).getClassName();
+	}
+
+	// if a resource is locked more than once, the stronger lock wins
+	private static void addLock(Map<String, ResourceAccessMode> locks, ResourceLock lock) {
+		locks.merge(lock.value(), lock.mode(), (mode, other) -> mode == ResourceAccessMode.READ_WRITE ? mode : other);
+	}
+
+	static String createReport(Collection<LockHolder> lockHolders) {
+		StringBuilder report = new StringBuilder();
+		report.append("[junit-pioneer] Time spent holding resource locks:").append(NEW_LINE);
+		Map<String, List<LockHolder>> holdersByResource = new TreeMap<>();
+		lockHolders
+				.forEach(holder -> holder.locks
+						.keySet()
+						.forEach(resource -> holdersByResource
+								.computeIfAbsent(resource, __ -> new ArrayList<>())
+								.add(holder)));
+		holdersByResource.forEach((resource, holders) -> appendResource(report, resource, holders));
+
+		report.append("[junit-pioneer] Classes that held resource locks exclusively, longest first:").append(NEW_LINE);
+		Map<String, List<LockHolder>> exclusiveHoldersByClass = lockHolders
+				.stream()
+				.filter(LockHolder::isExclusive)
+				.collect(groupingBy(holder -> holder.className, TreeMap::new, toList()));
+		exclusiveHoldersByClass
+				.entrySet()
+				.stream()
+				.sorted(comparingLong((Map.Entry<String, List<LockHolder>> entry) -> classNanos(entry.getValue()))
+						.reversed())
+				.forEach(entry -> appendClass(report, entry.getKey(), entry.getValue()));
+		return report.toString();
+	}
+
+	private static void appendResource(StringBuilder report, String resource, List<LockHolder> holders) {
+		Map<ResourceAccessMode, List<LockHolder>> holdersByMode = holders
+				.stream()
+				.collect(groupingBy(holder -> holder.locks.get(resource), () -> new EnumMap<>(ResourceAccessMode.class),
+					toList()));
+		String times = holdersByMode
+				.entrySet()
+				.stream()
+				.map(entry -> format("%s for %d ms by %d tests/containers", entry.getKey(), millis(entry.getValue()),
+					entry.getValue().size()))
+				.collect(joining(", "));
+		report.append(INDENT).append(resource).append(": ").append(times).append(NEW_LINE);
+	}
+
+	private static void appendClass(StringBuilder report, String className, List<LockHolder> holders) {
+		report.append(format("%s%s: %d ms%n", INDENT, className, TimeUnit.NANOSECONDS.toMillis(classNanos(holders))));
+		holders
+				.stream()
+				.sorted(comparingLong((LockHolder holder) -> holder.heldNanos).reversed())
+				.forEach(holder -> report
+						.append(format("%s%s%s %s: %d ms%n", INDENT, INDENT, holder.testIdentifier.getDisplayName(),
+							holder.locks.keySet(), TimeUnit.NANOSECONDS.toMillis(holder.heldNanos))));
+	}
+
+	private static long classNanos(List<LockHolder> holders) {
+		// a lock held by the class is held throughout its tests,
+		// so their times are already included in the class's
+		long classNanos = nanos(holders.stream().filter(LockHolder::isClass));
+		long testNanos = nanos(holders.stream().filter(holder -> !holder.isClass()));
+		return Math.max(classNanos, testNanos);
+	}
+
+	private static long nanos(Stream<LockHolder> holders) {
+		return holders.mapToLong(holder -> holder.heldNanos).sum();
+	}
+
+	private static long millis(List<LockHolder> holders) {
+		return TimeUnit.NANOSECONDS.toMillis(nanos(holders.stream()));
+	}
+
+	static final class LockHolder {
+
+		final TestIdentifier testIdentifier;
+		final String className;
+		final Map<String, ResourceAccessMode> locks;
+		final long heldNanos;
+
+		LockHolder(TestIdentifier testIdentifier, String className, Map<String, ResourceAccessMode> locks,
+				long heldNanos) {
+			this.testIdentifier = testIdentifier;
+			this.className = className;
+			this.locks = locks;
+			this.heldNanos = heldNanos;
+		}
+
+		boolean isClass() {
+			return testIdentifier.getSource().filter(source -> source instanceof ClassSource).isPresent();
+		}
+
+		boolean isExclusive() {
+			return locks.containsValue(ResourceAccessMode.READ_WRITE);
+		}
+
+	}
+
+}
@@ -0,0 +1,73 @@
+/*
+ * Copyright 2016-2023 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v2.0 which
+ * accompanies this distribution and is available at
+ *
+ * http://www.eclipse.org/legal/epl-v20.html
+ */
+
+package org.junitpioneer.jupiter.resource;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+import org.junit.jupiter.api.extension.ExtendWith;
+
+/**
+ * {@code @Pooled} is used to borrow one of a limited number of interchangeable resources.
+ *
+ * <p>Unlike with {@link Shared @Shared}, tests using the same pooled resource can run in parallel
+ * because each of them gets its own instance. Unlike with {@link New @New}, instances are reused:
+ * at most {@link #size() size} instances are created and once a test is done with an instance,
+ * it is {@link Resource#reset() reset} and handed to the next test. If all instances are in use,
+ * tests wait until one is returned.</p>
+ *
+ * <p>It is part of the "resources" JUnit Jupiter extension, which pertains to anything that needs
+ * to be injected into tests and which may need to be started up or torn down. Temporary
+ * directories are a common example.
+ *
+ * <p>This class is intended for <i>users</i>.</p>
+ *
+ * <p>For more details and examples, see
+ * <a href="https://junit-pioneer.org/docs/resources/" target="_top">the documentation on resources</a>.</p>
+ *
+ * @since 3.0
+ * @see Resource
+ * @see ResourceFactory
+ * @see Shared.Scope
+ */
+@ExtendWith(ResourceExtension.class)
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ ElementType.PARAMETER, ElementType.ANNOTATION_TYPE })
+public @interface Pooled {
+
+	/**
+	 * The class of the resource factory to get the resources from.
+	 */
+	Class<? extends ResourceFactory<?>> factory();
+
+	/**
+	 * The unique name of the pool.
+	 */
+	String name();
+
+	/**
+	 * The maximum number of resources in the pool; must be positive.
+	 */
+	int size();
+
+	/**
+	 * The scope for how long the pool and its resources will live.
+	 *
+	 * <p>The default scope is {@link Shared.Scope#SOURCE_FILE}.</p>
+	 *
+	 * @see Shared.Scope#SOURCE_FILE
+	 * @see Shared.Scope#GLOBAL
+	 */
+	Shared.Scope scope() default Shared.Scope.SOURCE_FILE;
+
+}
@@ -37,6 +37,19 @@ public interface Resource<T> extends AutoCloseable {
 	 */
 	T get() throws Exception;
 
+	/**
+	 * Resets the resource to the state it had after creation, so it can be used by another test.
+	 *
+	 * <p>This is only called for {@link Pooled @Pooled} resources, after a test is done with
+	 * the resource. If it throws, the resource is closed and removed from the pool.</p>
+	 *
+	 * @throws Exception if resetting the resource failed
+	 * @since 3.0
+	 */
+	default void reset() throws Exception {
+		// no op by default
+	}
+
 	/**
 	 * Closes the resource.
 	 *
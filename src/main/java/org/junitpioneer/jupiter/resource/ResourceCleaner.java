@@ -0,0 +1,298 @@
+/*
+ * Copyright 2016-2023 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v2.0 which
+ * accompanies this distribution and is available at
+ *
+ * http://www.eclipse.org/legal/epl-v20.html
+ */
+
+package org.junitpioneer.jupiter.resource;
+
+import static java.lang.String.format;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinWorkerThread;
+
+import org.junit.jupiter.api.extension.ExtensionConfigurationException;
+import org.junit.jupiter.api.extension.ExtensionContext;
+
+/**
+ * Closes resources, either right away or, if asynchronous cleanup is configured,
+ * in the background.
+ *
+ * <p>In asynchronous mode, closing a resource only hands it over to a fork-join pool,
+ * so the test can finish without waiting for it. Resources are closed in parallel, but
+ * a factory is only closed after all resources that were handed over before it, so
+ * resources are still closed before their factories. Completed cleanups are dropped
+ * (remembering their failures), so only the ones still running are tracked and waited
+ * for. The cleaner is kept in the root
+ * store before any resource, so the store closes it last, which waits for all
+ * outstanding cleanups at the end of the test plan.</p>
+ */
+@SuppressWarnings("try")
+class ResourceCleaner implements AutoCloseable {
+
+	static final String CLEANUP_CONFIG_PARAM = "org.junitpioneer.jupiter.resource.cleanup";
+
+	private static final String CLEANER_KEY = "resource cleaner";
+
+	private final ForkJoinPool pool;
+
+	// guarded by `this`
+	private final List<CompletableFuture<Void>> cleanups = new ArrayList<>();
+	private final List<Exception> failures = new ArrayList<>();
+	private final List<AutoCloseable> finalCleanups = new ArrayList<>();
+
+	private ResourceCleaner(ForkJoinPool pool) {
+		this.pool = pool;
+	}
+
+	static ResourceCleaner of(ExtensionContext context) {
+		return context
+				.getRoot()
+				.getStore(ExtensionContext.Namespace.create(ResourceCleaner.class))
+				.computeIfAbsent(CLEANER_KEY, __ -> create(context), ResourceCleaner.class);
+	}
+
+	private static ResourceCleaner create(ExtensionContext context) {
+		String mode = context.getConfigurationParameter(CLEANUP_CONFIG_PARAM).orElse("sync");
+		switch (mode.trim().toLowerCase(Locale.ROOT)) {
+			case "sync":
+				return new ResourceCleaner(null);
+			case "async":
+				return new ResourceCleaner(new ForkJoinPool(Runtime.getRuntime().availableProcessors(),
+					CleanerThread::new, null, false));
+			default:
+				throw new ExtensionConfigurationException(
+					format("The configuration parameter %s must be 'sync' or 'async', but was '%s'",
+						CLEANUP_CONFIG_PARAM, mode));
+		}
+	}
+
+	/**
+	 * @return {@code true} if the current thread belongs to an asynchronous cleaner,
+	 *         so cleanups can fork further tasks into its pool
+	 */
+	static boolean isCleanerThread() {
+		return Thread.currentThread() instanceof CleanerThread;
+	}
+
+	/**
+	 * Returns the resource itself in synchronous mode; otherwise, a resource that hands
+	 * closing over to this cleaner.
+	 */
+	Resource<?> track(Resource<?> resource) {
+		if (pool == null)
+			return resource;
+		return new AsyncClosingResource(resource, this);
+	}
+
+	/**
+	 * Returns the factory itself in synchronous mode; otherwise, a factory that hands
+	 * closing over to this cleaner.
+	 */
+	ResourceFactory<?> track(ResourceFactory<?> resourceFactory) {
+		if (pool == null)
+			return resourceFactory;
+		return new AsyncClosingResourceFactory(resourceFactory, this);
+	}
+
+	/**
+	 * Returns the resource or factory that was passed to {@code track}.
+	 */
+	static Object unwrap(Object resourceOrFactory) {
+		if (resourceOrFactory instanceof AsyncClosingResource)
+			return ((AsyncClosingResource) resourceOrFactory).delegate;
+		if (resourceOrFactory instanceof AsyncClosingResourceFactory)
+			return ((AsyncClosingResourceFactory) resourceOrFactory).delegate;
+		return resourceOrFactory;
+	}
+
+	/**
+	 * Registers an action that runs when the cleaner is closed, after all other cleanups.
+	 */
+	synchronized void afterAllCleanups(AutoCloseable finalCleanup) {
+		finalCleanups.add(finalCleanup);
+	}
+
+	private void closeResourceLater(Resource<?> resource) {
+		synchronized (this) {
+			addCleanup(CompletableFuture.runAsync(() -> close(resource), pool));
+		}
+	}
+
+	private void closeFactoryLater(ResourceFactory<?> resourceFactory) {
+		synchronized (this) {
+			// the factory's resources were handed over before it, so wait for them, even if they failed
+			CompletableFuture<Void> earlierCleanups = CompletableFuture
+					.allOf(cleanups.toArray(CompletableFuture[]::new))
+					.exceptionally(__ -> null);
+			addCleanup(earlierCleanups.thenRunAsync(() -> close(resourceFactory), pool));
+		}
+	}
+
+	// must be called while holding the lock on `this`
+	private void addCleanup(CompletableFuture<Void> cleanup) {
+		cleanups.removeIf(this::dropIfDone);
+		cleanups.add(cleanup);
+	}
+
+	// must be called while holding the lock on `this`
+	private boolean dropIfDone(CompletableFuture<Void> cleanup) {
+		if (!cleanup.isDone())
+			return false;
+		try {
+			cleanup.join();
+		}
+		catch (RuntimeException ex) {
+			failures.add(failureOf(ex));
+		}
+		return true;
+	}
+
+	private static Exception failureOf(RuntimeException ex) {
+		Throwable cause = ex.getCause() instanceof CleanupException ? ex.getCause().getCause() : ex.getCause();
+		return cause instanceof Exception ? (Exception) cause : ex;
+	}
+
+	private static void close(AutoCloseable closeable) {
+		try {
+			closeable.close();
+		}
+		catch (RuntimeException ex) {
+			throw ex;
+		}
+		catch (Exception ex) {
+			throw new CleanupException(ex);
+		}
+	}
+
+	@Override
+	public void close() throws Exception {
+		List<CompletableFuture<Void>> outstandingCleanups;
+		List<AutoCloseable> outstandingFinalCleanups;
+		List<Exception> earlierFailures;
+		synchronized (this) {
+			outstandingCleanups = new ArrayList<>(cleanups);
+			outstandingFinalCleanups = new ArrayList<>(finalCleanups);
+			earlierFailures = new ArrayList<>(failures);
+			cleanups.clear();
+			finalCleanups.clear();
+			failures.clear();
+		}
+
+		Exception failure = null;
+		for (Exception earlierFailure : earlierFailures)
+			failure = addFailure(failure, earlierFailure);
+		for (CompletableFuture<Void> cleanup : outstandingCleanups) {
+			try {
+				cleanup.join();
+			}
+			catch (RuntimeException ex) {
+				failure = addFailure(failure, failureOf(ex));
+			}
+		}
+		if (pool != null)
+			pool.shutdown();
+		for (AutoCloseable finalCleanup : outstandingFinalCleanups) {
+			try {
+				finalCleanup.close();
+			}
+			catch (Exception ex) {
+				failure = addFailure(failure, ex);
+			}
+		}
+		if (failure != null)
+			throw failure;
+	}
+
+	private static Exception addFailure(Exception failure, Exception exception) {
+		if (failure == null)
+			return exception;
+		failure.addSuppressed(exception);
+		return failure;
+	}
+
+	/**
+	 * A resource whose {@code close} returns immediately and leaves the actual closing to the cleaner.
+	 */
+	private static class AsyncClosingResource implements Resource<Object> {
+
+		private final Resource<?> delegate;
+		private final ResourceCleaner cleaner;
+
+		private AsyncClosingResource(Resource<?> delegate, ResourceCleaner cleaner) {
+			this.delegate = delegate;
+			this.cleaner = cleaner;
+		}
+
+		@Override
+		public Object get() throws Exception {
+			return delegate.get();
+		}
+
+		@Override
+		public void reset() throws Exception {
+			delegate.reset();
+		}
+
+		@Override
+		public void close() {
+			cleaner.closeResourceLater(delegate);
+		}
+
+	}
+
+	/**
+	 * A factory whose {@code close} returns immediately and leaves the actual closing to the cleaner.
+	 */
+	private static class AsyncClosingResourceFactory implements ResourceFactory<Object> {
+
+		private final ResourceFactory<?> delegate;
+		private final ResourceCleaner cleaner;
+
+		private AsyncClosingResourceFactory(ResourceFactory<?> delegate, ResourceCleaner cleaner) {
+			this.delegate = delegate;
+			this.cleaner = cleaner;
+		}
+
+		@Override
+		@SuppressWarnings("unchecked")
+		public Resource<Object> create(List<String> arguments) throws Exception {
+			return (Resource<Object>) delegate.create(arguments);
+		}
+
+		@Override
+		public void close() {
+			cleaner.closeFactoryLater(delegate);
+		}
+
+	}
+
+	private static class CleanerThread extends ForkJoinWorkerThread {
+
+		private CleanerThread(ForkJoinPool pool) {
+			super(pool);
+			setName("junit-pioneer-resource-cleaner-" + getPoolIndex());
+			setDaemon(true);
+		}
+
+	}
+
+	private static class CleanupException extends RuntimeException {
+
+		private static final long serialVersionUID = 1L;
+
+		private CleanupException(Exception cause) {
+			super(cause);
+		}
+
+	}
+
+}
@@ -17,34 +17,128 @@ import java.lang.reflect.Constructor;
 import java.lang.reflect.Executable;
 import java.lang.reflect.Method;
 import java.lang.reflect.Parameter;
+import java.time.Duration;
 import java.util.Arrays;
-import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import java.util.concurrent.atomic.AtomicLong;
 import java.util.concurrent.locks.Lock;
 import java.util.concurrent.locks.ReentrantLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
 import java.util.stream.IntStream;
+import java.util.stream.Stream;
 
+import org.junit.jupiter.api.extension.BeforeAllCallback;
 import org.junit.jupiter.api.extension.DynamicTestInvocationContext;
+import org.junit.jupiter.api.extension.ExtensionConfigurationException;
 import org.junit.jupiter.api.extension.ExtensionContext;
 import org.junit.jupiter.api.extension.InvocationInterceptor;
 import org.junit.jupiter.api.extension.ParameterContext;
 import org.junit.jupiter.api.extension.ParameterResolutionException;
 import org.junit.jupiter.api.extension.ParameterResolver;
 import org.junit.jupiter.api.extension.ReflectiveInvocationContext;
+import org.junit.jupiter.api.parallel.ResourceAccessMode;
 import org.junit.platform.commons.support.AnnotationSupport;
+import org.junit.platform.commons.support.HierarchyTraversalMode;
 import org.junit.platform.commons.support.ReflectionSupport;
+import org.junitpioneer.internal.PioneerAnnotationUtils;
 
-class ResourceExtension implements ParameterResolver, InvocationInterceptor {
+class ResourceExtension implements ParameterResolver, InvocationInterceptor, BeforeAllCallback {
+
+	static final String POOL_TIMEOUT_CONFIG_PARAM = "org.junitpioneer.jupiter.resource.pool.timeout";
+
+	// long enough for tests to wait for their turn, short enough to not hang the build when they wait for each other
+	private static final Duration DEFAULT_POOL_TIMEOUT = Duration.ofMinutes(5);
 
 	private static final ExtensionContext.Namespace NAMESPACE = //
 		ExtensionContext.Namespace.create(ResourceExtension.class);
 
-	private static final Lock SHARED_ANNOTATION_RESOLUTION_LOCK = new ReentrantLock();
+	// one lock per resource name instead of one for all shared resources, so that a slow factory
+	// only blocks the resolution of resources with the same name (names are limited by the number
+	// of `@Shared` annotations, so the map doesn't grow unbounded)
+	private static final ConcurrentMap<String, Lock> SHARED_ANNOTATION_RESOLUTION_LOCKS = new ConcurrentHashMap<>();
 
 	private static final AtomicLong KEY_GENERATOR = new AtomicLong(0);
 
+	// the `@Shared` annotations of each executable, sorted by name, so every interception after the first one
+	// is a lookup; a `ClassValue` doesn't keep the declaring classes from being unloaded
+	private static final ClassValue<ConcurrentMap<Executable, List<Shared>>> SHARED_ANNOTATIONS = new ClassValue<>() {
+
+		@Override
+		protected ConcurrentMap<Executable, List<Shared>> computeValue(Class<?> type) {
+			return new ConcurrentHashMap<>();
+		}
+
+	};
+
+	// threads are only kept around while resources are being warmed up
+	// and as daemon threads, they don't keep the JVM running
+	private static final ExecutorService WARM_UP_EXECUTOR = Executors.newCachedThreadPool(runnable -> {
+		Thread thread = new Thread(runnable, "junit-pioneer-resource-warm-up");
+		thread.setDaemon(true);
+		return thread;
+	});
+
+	@Override
+	public void beforeAll(ExtensionContext context) {
+		if (!PioneerAnnotationUtils.isAnnotationPresent(context, WarmUpSharedResources.class))
+			return;
+
+		// get the cleaner before any resource is stored, so it's closed after all of them
+		ResourceCleaner.of(context);
+		ExtensionContext.Store rootStore = context.getRoot().getStore(NAMESPACE);
+		findSharedInClass(context.getRequiredTestClass())
+				.forEach(shared -> warmUp(shared, scopedStore(context, shared.scope()), rootStore, context));
+	}
+
+	private Stream<Shared> findSharedInClass(Class<?> testClass) {
+		Stream<Executable> methods = ReflectionSupport
+				.findMethods(testClass, method -> true, HierarchyTraversalMode.TOP_DOWN)
+				.stream()
+				.map(Executable.class::cast);
+		Stream<Executable> constructors = Arrays.stream(testClass.getDeclaredConstructors());
+		return Stream.concat(constructors, methods).map(ResourceExtension::findShared).flatMap(List::stream);
+	}
+
+	private void warmUp(Shared sharedAnnotation, ExtensionContext.Store scopedStore, ExtensionContext.Store rootStore,
+			ExtensionContext extensionContext) {
+		ResourceCleaner cleaner = ResourceCleaner.of(extensionContext);
+		ResourceMetrics metrics = ResourceMetrics.of(extensionContext);
+		Lock resolutionLock = resolutionLock(sharedAnnotation);
+		resolutionLock.lock();
+		try {
+			throwIfHasAnnotationWithSameNameButDifferentType(scopedStore, sharedAnnotation);
+			throwIfHasAnnotationWithSameNameButDifferentScope(rootStore, sharedAnnotation);
+
+			ResourceFactory<?> resourceFactory = scopedStore
+					.computeIfAbsent( //
+						factoryKey(sharedAnnotation), //
+						__ -> cleaner.track(newResourceFactory(sharedAnnotation.factory(), extensionContext)), //
+						ResourceFactory.class);
+			// if the resource was already created (e.g. by another class in the same scope), this does nothing
+			scopedStore
+					.computeIfAbsent( //
+						resourceKey(sharedAnnotation), //
+						__ -> new WarmingUpResource(sharedAnnotation.name(),
+							CompletableFuture
+									.supplyAsync(
+										// there's no test to publish the creation time to
+										() -> cleaner
+												.track(newResource(sharedAnnotation, resourceFactory, metrics, null)),
+										WARM_UP_EXECUTOR)),
+						Resource.class);
+			putNewLockForShared(sharedAnnotation, scopedStore);
+		}
+		finally {
+			resolutionLock.unlock();
+		}
+	}
+
 	@Override
 	public boolean supportsParameter(ParameterContext parameterContext, ExtensionContext extensionContext) {
 		if (parameterContext.isAnnotated(New.class) && parameterContext.isAnnotated(Shared.class)) {
@@ -56,16 +150,30 @@ class ResourceExtension implements ParameterResolver, InvocationInterceptor {
 			// @formatter:on
 			throw new ParameterResolutionException(message);
 		}
-		return parameterContext.isAnnotated(New.class) || parameterContext.isAnnotated(Shared.class);
+		if (parameterContext.isAnnotated(Pooled.class)
+				&& (parameterContext.isAnnotated(New.class) || parameterContext.isAnnotated(Shared.class))) {
+			// @formatter:off
+			String message =
+					format(
+							"Parameter [%s] in %s is annotated with @Pooled and @New or @Shared",
+							parameterContext.getParameter(), testMethodDescription(extensionContext));
+			// @formatter:on
+			throw new ParameterResolutionException(message);
+		}
+		return parameterContext.isAnnotated(New.class) || parameterContext.isAnnotated(Shared.class)
+				|| parameterContext.isAnnotated(Pooled.class);
 	}
 
 	@Override
 	public Object resolveParameter(ParameterContext parameterContext, ExtensionContext extensionContext)
 			throws ParameterResolutionException {
+		// get the cleaner before any resource is stored, so it's closed after all of them
+		ResourceCleaner.of(extensionContext);
+
 		Optional<New> newAnnotation = parameterContext.findAnnotation(New.class);
 		if (newAnnotation.isPresent()) {
 			ExtensionContext.Store testStore = extensionContext.getStore(NAMESPACE);
-			Object resource = resolveNew(newAnnotation.get(), testStore);
+			Object resource = resolveNew(newAnnotation.get(), testStore, extensionContext);
 			return checkType(resource, parameterContext.getParameter().getType());
 		}
 
@@ -74,13 +182,24 @@ class ResourceExtension implements ParameterResolver, InvocationInterceptor {
 			Parameter[] parameters = parameterContext.getDeclaringExecutable().getParameters();
 			ExtensionContext.Store scopedStore = scopedStore(extensionContext, sharedAnnotation.get().scope());
 			ExtensionContext.Store rootStore = extensionContext.getRoot().getStore(NAMESPACE);
-			Object resource = resolveShared(sharedAnnotation.get(), parameters, scopedStore, rootStore);
+			Object resource = resolveShared(sharedAnnotation.get(), parameters, scopedStore, rootStore,
+				extensionContext);
+			return checkType(resource, parameterContext.getParameter().getType());
+		}
+
+		Optional<Pooled> pooledAnnotation = parameterContext.findAnnotation(Pooled.class);
+		if (pooledAnnotation.isPresent()) {
+			Parameter[] parameters = parameterContext.getDeclaringExecutable().getParameters();
+			ExtensionContext.Store scopedStore = scopedStore(extensionContext, pooledAnnotation.get().scope());
+			ExtensionContext.Store rootStore = extensionContext.getRoot().getStore(NAMESPACE);
+			Object resource = resolvePooled(pooledAnnotation.get(), parameters, scopedStore, rootStore,
+				extensionContext);
 			return checkType(resource, parameterContext.getParameter().getType());
 		}
 
 		// @formatter:off
 		String message = format(
-				"Parameter [%s] in %s is not annotated with @New or @Shared",
+				"Parameter [%s] in %s is not annotated with @New, @Shared, or @Pooled",
 				parameterContext.getParameter(), testMethodDescription(extensionContext));
 		// @formatter:on
 		throw new ParameterResolutionException(message);
@@ -94,14 +213,17 @@ class ResourceExtension implements ParameterResolver, InvocationInterceptor {
 		return type.cast(resource);
 	}
 
-	private Object resolveNew(New newAnnotation, ExtensionContext.Store store) {
-		ResourceFactory<?> resourceFactory = ReflectionSupport.newInstance(newAnnotation.value());
-		store.put(uniqueKey(), resourceFactory);
+	private Object resolveNew(New newAnnotation, ExtensionContext.Store store, ExtensionContext extensionContext) {
+		ResourceCleaner cleaner = ResourceCleaner.of(extensionContext);
+		ResourceMetrics metrics = ResourceMetrics.of(extensionContext);
+		ResourceFactory<?> resourceFactory = newResourceFactory(newAnnotation.value(), extensionContext);
+		store.put(uniqueKey(), cleaner.track(resourceFactory));
 
-		Resource<?> resource = newResource(newAnnotation, resourceFactory);
-		store.put(uniqueKey(), resource);
+		Resource<?> resource = newResource(newAnnotation, resourceFactory, metrics, extensionContext);
+		store.put(uniqueKey(), cleaner.track(resource));
 
 		Object result;
+		long start = metrics.start();
 		try {
 			result = resource.get();
 		}
@@ -113,12 +235,13 @@ class ResourceExtension implements ParameterResolver, InvocationInterceptor {
 			// @formatter:on
 			throw new ParameterResolutionException(message, ex);
 		}
+		metrics.record(ResourceMetrics.label(newAnnotation), ResourceMetrics.Phase.GET, start, extensionContext);
 
 		if (result == null) {
 			// @formatter:off
 			String message = format(
 					"The resource returned by [%s] was null, which is not allowed",
-					getMethod(resource.getClass(), "get"));
+					getMethod(unwrapped(resource).getClass(), "get"));
 			// @formatter:on
 			throw new ParameterResolutionException(message);
 		}
@@ -127,9 +250,13 @@ class ResourceExtension implements ParameterResolver, InvocationInterceptor {
 	}
 
 	private Object resolveShared(Shared sharedAnnotation, Parameter[] parameters, ExtensionContext.Store scopedStore,
-			ExtensionContext.Store rootStore) {
-		// run sequentially, so that resources with the same name are never created twice at the same time
-		SHARED_ANNOTATION_RESOLUTION_LOCK.lock();
+			ExtensionContext.Store rootStore, ExtensionContext extensionContext) {
+		ResourceCleaner cleaner = ResourceCleaner.of(extensionContext);
+		ResourceMetrics metrics = ResourceMetrics.of(extensionContext);
+		// run sequentially, so that resources with the same name are never created twice at the same time;
+		// all checks and store entries below are keyed by the name, so they're covered by the same lock
+		Lock resolutionLock = resolutionLock(sharedAnnotation);
+		resolutionLock.lock();
 		try {
 			throwIfHasAnnotationWithSameNameButDifferentType(scopedStore, sharedAnnotation);
 			throwIfHasAnnotationWithSameNameButDifferentScope(rootStore, sharedAnnotation);
@@ -138,16 +265,21 @@ class ResourceExtension implements ParameterResolver, InvocationInterceptor {
 			ResourceFactory<?> resourceFactory = scopedStore
 					.computeIfAbsent( //
 						factoryKey(sharedAnnotation), //
-						__ -> ReflectionSupport.newInstance(sharedAnnotation.factory()), //
+						__ -> cleaner.track(newResourceFactory(sharedAnnotation.factory(), extensionContext)), //
 						ResourceFactory.class);
 			Resource<?> resource = scopedStore
 					.computeIfAbsent( //
 						resourceKey(sharedAnnotation), //
-						__ -> newResource(sharedAnnotation, resourceFactory), //
+						__ -> cleaner
+								.track(newResource(sharedAnnotation, resourceFactory, metrics, extensionContext)), //
 						Resource.class);
+			if (resource instanceof WarmingUpResource)
+				resource = ((WarmingUpResource) resource).await();
+			resource = (Resource<?>) unwrapped(resource);
 			putNewLockForShared(sharedAnnotation, scopedStore);
 
 			Object result;
+			long start = metrics.start();
 			try {
 				result = resource.get();
 			}
@@ -159,12 +291,15 @@ class ResourceExtension implements ParameterResolver, InvocationInterceptor {
 				// @formatter:on
 				throw new ParameterResolutionException(message, ex);
 			}
+			metrics
+					.record(ResourceMetrics.label(sharedAnnotation), ResourceMetrics.Phase.GET, start,
+						extensionContext);
 
 			if (result == null) {
 				// @formatter:off
 				String message = format(
 						"The resource returned by [%s] was null, which is not allowed",
-						getMethod(resource.getClass(), "get"));
+						getMethod(unwrapped(resource).getClass(), "get"));
 				// @formatter:on
 				throw new ParameterResolutionException(message);
 			}
@@ -172,11 +307,189 @@ class ResourceExtension implements ParameterResolver, InvocationInterceptor {
 			return result;
 		}
 		finally {
-			SHARED_ANNOTATION_RESOLUTION_LOCK.unlock();
+			resolutionLock.unlock();
+		}
+	}
+
+	private Object resolvePooled(Pooled pooledAnnotation, Parameter[] parameters, ExtensionContext.Store scopedStore,
+			ExtensionContext.Store rootStore, ExtensionContext extensionContext) {
+		ResourceCleaner cleaner = ResourceCleaner.of(extensionContext);
+		ResourceMetrics metrics = ResourceMetrics.of(extensionContext);
+		throwIfPoolSizeIsNotPositive(pooledAnnotation);
+		throwIfMultipleParametersUseSamePool(parameters, pooledAnnotation);
+		throwIfHasPoolWithSameNameButDifferentScope(rootStore, pooledAnnotation);
+
+		// the factory is stored first, so the store closes it after the pool (which closes the resources)
+		ResourceFactory<?> resourceFactory = scopedStore
+				.computeIfAbsent( //
+					pooledFactoryKey(pooledAnnotation), //
+					__ -> cleaner.track(newResourceFactory(pooledAnnotation.factory(), extensionContext)), //
+					ResourceFactory.class);
+		ResourcePool pool = scopedStore
+				.computeIfAbsent( //
+					poolKey(pooledAnnotation), //
+					// the pool outlives this test, so it can't publish creation times to it
+					__ -> new ResourcePool(pooledAnnotation,
+						() -> cleaner.track(newResource(pooledAnnotation, resourceFactory, metrics, null)),
+						poolTimeout(extensionContext)), //
+					ResourcePool.class);
+		throwIfHasPoolWithSameNameButDifferentConfiguration(pool, resourceFactory, pooledAnnotation);
+		throwIfPoolIsExhaustedByThisTest(extensionContext, pooledAnnotation);
+
+		Resource<?> resource = pool.borrow();
+		// the context's store is closed when the context is done, which gives the resource back
+		extensionContext
+				.getStore(NAMESPACE)
+				.computeIfAbsent(leasesKey(pooledAnnotation, extensionContext), __ -> new ResourcePool.Leases(pool),
+					ResourcePool.Leases.class)
+				.add(resource);
+
+		Object result;
+		long start = metrics.start();
+		try {
+			result = resource.get();
+		}
+		catch (Exception ex) {
+			// @formatter:off
+			String message = format(
+					"Unable to get the contents of the resource created by `%s`",
+					pooledAnnotation.factory());
+			// @formatter:on
+			throw new ParameterResolutionException(message, ex);
+		}
+		metrics.record(ResourceMetrics.label(pooledAnnotation), ResourceMetrics.Phase.GET, start, extensionContext);
+
+		if (result == null) {
+			// @formatter:off
+			String message = format(
+					"The resource returned by [%s] was null, which is not allowed",
+					getMethod(unwrapped(resource).getClass(), "get"));
+			// @formatter:on
+			throw new ParameterResolutionException(message);
+		}
+
+		return result;
+	}
+
+	private void throwIfPoolSizeIsNotPositive(Pooled pooledAnnotation) {
+		if (pooledAnnotation.size() < 1) {
+			String message = format("The pool \"%s\" must have a positive size, but has %d", pooledAnnotation.name(),
+				pooledAnnotation.size());
+			throw new ParameterResolutionException(message);
+		}
+	}
+
+	private void throwIfMultipleParametersUseSamePool(Parameter[] parameters, Pooled pooledAnnotation) {
+		long parameterCount = Arrays
+				.stream(parameters)
+				.map(parameter -> AnnotationSupport.findAnnotation(parameter, Pooled.class))
+				.filter(pooled -> pooled.map(Pooled::name).filter(pooledAnnotation.name()::equals).isPresent())
+				.count();
+		if (parameterCount > 1) {
+			// @formatter:off
+			String message =
+					format(
+							"A test method has %d parameters annotated with @Pooled with the same name; "
+									+ "this could exhaust the pool, so it is not allowed",
+							parameterCount);
+			// @formatter:on
+			throw new ParameterResolutionException(message);
 		}
 	}
 
-	private Resource<?> newResource(Object newOrSharedAnnotation, ResourceFactory<?> resourceFactory) {
+	private void throwIfPoolIsExhaustedByThisTest(ExtensionContext extensionContext, Pooled pooledAnnotation) {
+		// the test also holds what its enclosing contexts borrowed, e.g. in a `@BeforeAll` method
+		int borrowedResources = 0;
+		Optional<ExtensionContext> context = Optional.of(extensionContext);
+		while (context.isPresent()) {
+			// the key contains the context's ID, so the lookup doesn't find the leases of enclosing contexts
+			ResourcePool.Leases leases = context
+					.get()
+					.getStore(NAMESPACE)
+					.get(leasesKey(pooledAnnotation, context.get()), ResourcePool.Leases.class);
+			if (leases != null)
+				borrowedResources += leases.count();
+			context = context.get().getParent();
+		}
+
+		if (borrowedResources >= pooledAnnotation.size()) {
+			// @formatter:off
+			String message =
+					format(
+							"This test already borrowed as many resources from the pool \"%s\" as it has (%d), "
+									+ "e.g. in its constructor or a lifecycle method; "
+									+ "borrowing another one would wait forever, so it is not allowed",
+							pooledAnnotation.name(), borrowedResources);
+			// @formatter:on
+			throw new ParameterResolutionException(message);
+		}
+	}
+
+	private static Duration poolTimeout(ExtensionContext context) {
+		Optional<String> timeout = context.getConfigurationParameter(POOL_TIMEOUT_CONFIG_PARAM);
+		if (timeout.isEmpty())
+			return DEFAULT_POOL_TIMEOUT;
+		try {
+			long seconds = Long.parseLong(timeout.get().trim());
+			if (seconds > 0)
+				return Duration.ofSeconds(seconds);
+		}
+		catch (NumberFormatException ex) {
+			// fall through to the exception below
+		}
+		// @formatter:off
+		String message = format(
+				"The configuration parameter %s must be a positive number of seconds, but was '%s'",
+				POOL_TIMEOUT_CONFIG_PARAM, timeout.get());
+		// @formatter:on
+		throw new ExtensionConfigurationException(message);
+	}
+
+	private void throwIfHasPoolWithSameNameButDifferentScope(ExtensionContext.Store rootStore,
+			Pooled pooledAnnotation) {
+		Pooled presentPooledAnnotation = rootStore
+				.computeIfAbsent(pooledAnnotationKey(pooledAnnotation), __ -> pooledAnnotation, Pooled.class);
+		if (!presentPooledAnnotation.scope().equals(pooledAnnotation.scope())) {
+			// @formatter:off
+			String message =
+					format(
+							"Two or more parameters are annotated with @Pooled annotations with the name "
+									+ "\"%s\" but with different scopes",
+							pooledAnnotation.name());
+			// @formatter:on
+			throw new ParameterResolutionException(message);
+		}
+	}
+
+	private void throwIfHasPoolWithSameNameButDifferentConfiguration(ResourcePool pool,
+			ResourceFactory<?> resourceFactory, Pooled pooledAnnotation) {
+		if (!pooledAnnotation.factory().equals(unwrapped(resourceFactory).getClass())
+				|| pool.annotation().size() != pooledAnnotation.size()) {
+			// @formatter:off
+			String message =
+					format(
+							"Two or more parameters are annotated with @Pooled annotations with the name \"%s\" "
+									+ "but with different factory classes or sizes",
+							pooledAnnotation.name());
+			// @formatter:on
+			throw new ParameterResolutionException(message);
+		}
+	}
+
+	private Lock resolutionLock(Shared sharedAnnotation) {
+		return SHARED_ANNOTATION_RESOLUTION_LOCKS.computeIfAbsent(sharedAnnotation.name(), __ -> new ReentrantLock());
+	}
+
+	private ResourceFactory<?> newResourceFactory(Class<? extends ResourceFactory<?>> factoryType,
+			ExtensionContext extensionContext) {
+		ResourceFactory<?> resourceFactory = ReflectionSupport.newInstance(factoryType);
+		if (resourceFactory instanceof TemporaryDirectory)
+			((TemporaryDirectory) resourceFactory).configure(extensionContext);
+		return resourceFactory;
+	}
+
+	private Resource<?> newResource(Object newOrSharedAnnotation, ResourceFactory<?> resourceFactory,
+			ResourceMetrics metrics, ExtensionContext reportingContext) {
 		List<String> arguments;
 		if (newOrSharedAnnotation instanceof New) {
 			arguments = List.of(((New) newOrSharedAnnotation).arguments());
@@ -185,12 +498,14 @@ class ResourceExtension implements ParameterResolver, InvocationInterceptor {
 		}
 
 		Resource<?> result;
+		long start = metrics.start();
 		try {
 			result = resourceFactory.create(arguments);
 		}
 		catch (Exception ex) {
 			String message = //
-				format("Unable to create a resource from `%s`", resourceFactory.getClass().getTypeName());
+				format("Unable to create a resource from `%s`",
+					unwrapped(resourceFactory).getClass().getTypeName());
 			throw new ParameterResolutionException(message, ex);
 		}
 
@@ -198,13 +513,15 @@ class ResourceExtension implements ParameterResolver, InvocationInterceptor {
 			// @formatter:off
 			String message = format(
 					"The `Resource` instance returned by the factory method [%s] with arguments %s was null, which is not allowed",
-					getMethod(resourceFactory.getClass(), "create", List.class),
+					getMethod(unwrapped(resourceFactory).getClass(), "create", List.class),
 					arguments);
 			// @formatter:on
 			throw new ParameterResolutionException(message);
 		}
 
-		return result;
+		String label = ResourceMetrics.label(newOrSharedAnnotation);
+		metrics.record(label, ResourceMetrics.Phase.CREATE, start, reportingContext);
+		return metrics.track(result, label);
 	}
 
 	private void throwIfHasAnnotationWithSameNameButDifferentType(ExtensionContext.Store scopedStore,
@@ -219,7 +536,7 @@ class ResourceExtension implements ParameterResolver, InvocationInterceptor {
 				scopedStore.get(keyOfFactoryKey(sharedAnnotation), String.class);
 
 			if (factoryKey(sharedAnnotation).equals(presentResourceFactoryName)
-					&& !sharedAnnotation.factory().equals(presentResourceFactory.getClass())) {
+					&& !sharedAnnotation.factory().equals(unwrapped(presentResourceFactory).getClass())) {
 				// @formatter:off
 				String message =
 						format(
@@ -276,6 +593,10 @@ class ResourceExtension implements ParameterResolver, InvocationInterceptor {
 				.isPresent();
 	}
 
+	private static Object unwrapped(Object resourceOrFactory) {
+		return ResourceMetrics.unwrap(ResourceCleaner.unwrap(resourceOrFactory));
+	}
+
 	private long uniqueKey() {
 		return KEY_GENERATOR.getAndIncrement();
 	}
@@ -300,6 +621,22 @@ class ResourceExtension implements ParameterResolver, InvocationInterceptor {
 		return sharedAnnotation.name() + " shared annotation";
 	}
 
+	private String pooledFactoryKey(Pooled pooledAnnotation) {
+		return pooledAnnotation.name() + " pooled resource factory";
+	}
+
+	private String leasesKey(Pooled pooledAnnotation, ExtensionContext extensionContext) {
+		return pooledAnnotation.name() + " resource pool leases of " + extensionContext.getUniqueId();
+	}
+
+	private String poolKey(Pooled pooledAnnotation) {
+		return pooledAnnotation.name() + " resource pool";
+	}
+
+	private String pooledAnnotationKey(Pooled pooledAnnotation) {
+		return pooledAnnotation.name() + " pooled annotation";
+	}
+
 	private String testMethodDescription(ExtensionContext extensionContext) {
 		return extensionContext.getTestMethod().map(method -> "method [" + method + ']').orElse("an unknown method");
 	}
@@ -388,24 +725,33 @@ class ResourceExtension implements ParameterResolver, InvocationInterceptor {
 		// We implement the solution here by lexicographically sorting the locks by the (globally unique) name of the
 		// shared resource that each lock is (uniquely) associated with.
 		//
+		// Tests that only read a resource share its read lock, so they can run in parallel with each other.
+		// That doesn't change the reasoning above: a read lock can only be held up by the write lock of the same
+		// resource and all of them are acquired in the same order.
+		//
 		// [1] https://en.wikipedia.org/wiki/Dining_philosophers_problem
 
 		List<Shared> sharedAnnotations = findShared(executable);
-		List<ReentrantLock> locks = sortedLocksForSharedResources(sharedAnnotations, extensionContext);
+		// most executables don't use shared resources, so they don't need to take any locks
+		if (sharedAnnotations.isEmpty())
+			return invocation.proceed();
+		List<Lock> locks = sortedLocksForSharedResources(sharedAnnotations, extensionContext);
 		return invokeWithLocks(invocation, locks);
 	}
 
-	private List<ReentrantLock> sortedLocksForSharedResources(Collection<Shared> sharedAnnotations,
+	private List<Lock> sortedLocksForSharedResources(List<Shared> sortedAnnotations,
 			ExtensionContext extensionContext) {
-		List<Shared> sortedAnnotations = sharedAnnotations.stream().sorted(comparing(Shared::name)).toList();
 		List<ExtensionContext.Store> stores = //
 			sortedAnnotations
 					.stream() //
 					.map(shared -> scopedStore(extensionContext, shared.scope()))
 					.toList();
+		ResourceMetrics metrics = ResourceMetrics.of(extensionContext);
 		return IntStream
 				.range(0, sortedAnnotations.size()) //
-				.mapToObj(i -> findLockForShared(sortedAnnotations.get(i), stores.get(i)))
+				.mapToObj(i -> metrics
+						.track(lockForAccessMode(sortedAnnotations.get(i), stores.get(i)),
+							ResourceMetrics.label(sortedAnnotations.get(i)), extensionContext))
 				.toList();
 	}
 
@@ -442,35 +788,53 @@ class ResourceExtension implements ParameterResolver, InvocationInterceptor {
 		return extensionContext.getRoot();
 	}
 
-	private List<Shared> findShared(Executable executable) {
+	/**
+	 * @return the executable's {@code @Shared} annotations, sorted by name
+	 */
+	private static List<Shared> findShared(Executable executable) {
+		ConcurrentMap<Executable, List<Shared>> sharedAnnotations = SHARED_ANNOTATIONS
+				.get(executable.getDeclaringClass());
+		List<Shared> cached = sharedAnnotations.get(executable);
+		if (cached != null)
+			return cached;
+		return sharedAnnotations.computeIfAbsent(executable, ResourceExtension::scanShared);
+	}
+
+	private static List<Shared> scanShared(Executable executable) {
 		return Arrays
 				.stream(executable.getParameters())
 				.map(parameter -> AnnotationSupport.findAnnotation(parameter, Shared.class))
 				.filter(Optional::isPresent)
 				.map(Optional::get)
+				.sorted(comparing(Shared::name))
 				.toList();
 	}
 
 	private void putNewLockForShared(Shared shared, ExtensionContext.Store store) {
-		store.computeIfAbsent(resourceLockKey(shared), __ -> new ReentrantLock(), ReentrantLock.class);
+		store.computeIfAbsent(resourceLockKey(shared), __ -> new ReentrantReadWriteLock(), ReentrantReadWriteLock.class);
+	}
+
+	private Lock lockForAccessMode(Shared shared, ExtensionContext.Store store) {
+		ReentrantReadWriteLock lock = findLockForShared(shared, store);
+		return shared.access() == ResourceAccessMode.READ ? lock.readLock() : lock.writeLock();
 	}
 
-	private ReentrantLock findLockForShared(Shared shared, ExtensionContext.Store store) {
+	private ReentrantReadWriteLock findLockForShared(Shared shared, ExtensionContext.Store store) {
 		return Optional
-				.ofNullable(store.get(resourceLockKey(shared), ReentrantLock.class))
+				.ofNullable(store.get(resourceLockKey(shared), ReentrantReadWriteLock.class))
 				.orElseThrow(() -> new IllegalStateException(
 					format("There should be a shared resource for the name %s", shared.name())));
 	}
 
-	private <T> T invokeWithLocks(Invocation<T> invocation, List<ReentrantLock> locks) throws Throwable {
-		locks.forEach(ReentrantLock::lock);
+	private <T> T invokeWithLocks(Invocation<T> invocation, List<Lock> locks) throws Throwable {
+		locks.forEach(Lock::lock);
 		try {
 			return invocation.proceed();
 		}
 		finally {
 			// for dining philosophers, "[t]he order in which each philosopher puts down the forks does not matter"
 			// (quote from Wikipedia)
-			locks.forEach(ReentrantLock::unlock);
+			locks.forEach(Lock::unlock);
 		}
 	}
 
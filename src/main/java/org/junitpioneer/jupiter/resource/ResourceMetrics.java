@@ -0,0 +1,283 @@
+/*
+ * Copyright 2016-2023 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v2.0 which
+ * accompanies this distribution and is available at
+ *
+ * http://www.eclipse.org/legal/epl-v20.html
+ */
+
+package org.junitpioneer.jupiter.resource;
+
+import static java.lang.String.format;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.Lock;
+
+import org.junit.jupiter.api.extension.ExtensionContext;
+
+/**
+ * Records how long resources take to be created, accessed, and closed and how long tests
+ * wait for the locks of shared resources.
+ *
+ * <p>If enabled, each measurement is published as a report entry of the test it belongs to
+ * and a summary per resource is published as report entries of the test run once all
+ * resources are closed. If disabled (the default), nothing is measured.</p>
+ */
+@SuppressWarnings("try")
+class ResourceMetrics {
+
+	static final String METRICS_CONFIG_PARAM = "org.junitpioneer.jupiter.resource.metrics";
+
+	private static final String METRICS_KEY = "resource metrics";
+
+	private static final ResourceMetrics DISABLED = new ResourceMetrics(null);
+
+	enum Phase {
+
+		CREATE("creating"), GET("getting"), CLOSE("closing"), LOCK_WAIT("waiting for the lock of");
+
+		private final String description;
+
+		Phase(String description) {
+			this.description = description;
+		}
+
+	}
+
+	// null if disabled
+	private final ExtensionContext rootContext;
+	// sorted by label, so the summary is easy to scan
+	private final Map<String, Statistics> statistics = new ConcurrentSkipListMap<>();
+
+	private ResourceMetrics(ExtensionContext rootContext) {
+		this.rootContext = rootContext;
+	}
+
+	static ResourceMetrics of(ExtensionContext context) {
+		boolean enabled = context.getConfigurationParameter(METRICS_CONFIG_PARAM, Boolean::parseBoolean).orElse(false);
+		if (!enabled)
+			return DISABLED;
+
+		// get the cleaner first, so it's closed (and publishes the summary) after all resources
+		ResourceCleaner cleaner = ResourceCleaner.of(context);
+		return context
+				.getRoot()
+				.getStore(ExtensionContext.Namespace.create(ResourceMetrics.class))
+				.computeIfAbsent(METRICS_KEY, __ -> {
+					ResourceMetrics metrics = new ResourceMetrics(context.getRoot());
+					cleaner.afterAllCleanups(metrics::publishSummary);
+					return metrics;
+				}, ResourceMetrics.class);
+	}
+
+	/**
+	 * Identifies the resource a {@code @New}, {@code @Shared}, or {@code @Pooled} annotation refers to.
+	 */
+	static String label(Object annotation) {
+		if (annotation instanceof New)
+			return format("@New(%s)", ((New) annotation).value().getSimpleName());
+		if (annotation instanceof Shared) {
+			Shared shared = (Shared) annotation;
+			return format("@Shared(\"%s\", %s)", shared.name(), shared.scope());
+		}
+		Pooled pooled = (Pooled) annotation;
+		return format("@Pooled(\"%s\", %s)", pooled.name(), pooled.scope());
+	}
+
+	boolean isEnabled() {
+		return rootContext != null;
+	}
+
+	/**
+	 * @return the start time of a measurement, to be passed to {@link #record record}
+	 */
+	long start() {
+		return isEnabled() ? System.nanoTime() : 0;
+	}
+
+	/**
+	 * Records the time since {@code start} and, if there's a context, publishes it as a report entry.
+	 *
+	 * @param context the context of the test the measurement belongs to; {@code null} if there is none
+	 *        (e.g. when warming up or closing resources)
+	 */
+	void record(String label, Phase phase, long start, ExtensionContext context) {
+		if (!isEnabled())
+			return;
+
+		long nanos = System.nanoTime() - start;
+		statistics.computeIfAbsent(label, __ -> new Statistics()).add(phase, nanos);
+		if (context != null)
+			context.publishReportEntry(phase.description + " " + label, formatNanos(nanos));
+	}
+
+	/**
+	 * Returns the resource itself if disabled; otherwise, a resource whose closing is measured.
+	 */
+	Resource<?> track(Resource<?> resource, String label) {
+		if (!isEnabled())
+			return resource;
+		return new TimedResource(resource, label, this);
+	}
+
+	/**
+	 * Returns the resource that was passed to {@code track}.
+	 */
+	static Object unwrap(Object resource) {
+		return resource instanceof TimedResource ? ((TimedResource) resource).delegate : resource;
+	}
+
+	/**
+	 * Returns the lock itself if disabled; otherwise, a lock that measures how long acquiring it takes.
+	 */
+	Lock track(Lock lock, String label, ExtensionContext context) {
+		if (!isEnabled())
+			return lock;
+		return new TimedLock(lock, label, context, this);
+	}
+
+	private void publishSummary() {
+		statistics
+				.forEach((label, labelStatistics) -> rootContext
+						.publishReportEntry("resource metrics for " + label, labelStatistics.toString()));
+	}
+
+	private static String formatNanos(long nanos) {
+		return format("%d ms", TimeUnit.NANOSECONDS.toMillis(nanos));
+	}
+
+	private static class Statistics {
+
+		private final Map<Phase, LongAdder> counts = new EnumMap<>(Phase.class);
+		private final Map<Phase, LongAdder> totals = new EnumMap<>(Phase.class);
+		private final Map<Phase, LongAccumulator> maximums = new EnumMap<>(Phase.class);
+
+		Statistics() {
+			// fill the maps up front, so they're never modified concurrently
+			for (Phase phase : Phase.values()) {
+				counts.put(phase, new LongAdder());
+				totals.put(phase, new LongAdder());
+				maximums.put(phase, new LongAccumulator(Math::max, 0));
+			}
+		}
+
+		void add(Phase phase, long nanos) {
+			counts.get(phase).increment();
+			totals.get(phase).add(nanos);
+			maximums.get(phase).accumulate(nanos);
+		}
+
+		@Override
+		public String toString() {
+			StringBuilder summary = new StringBuilder();
+			for (Phase phase : Phase.values()) {
+				long count = counts.get(phase).sum();
+				if (count == 0)
+					continue;
+				if (summary.length() > 0)
+					summary.append("; ");
+				// @formatter:off
+				summary.append(format("%s: %dx, total %s, max %s",
+						phase.description, count,
+						formatNanos(totals.get(phase).sum()), formatNanos(maximums.get(phase).get())));
+				// @formatter:on
+			}
+			return summary.toString();
+		}
+
+	}
+
+	private static class TimedResource implements Resource<Object> {
+
+		private final Resource<?> delegate;
+		private final String label;
+		private final ResourceMetrics metrics;
+
+		TimedResource(Resource<?> delegate, String label, ResourceMetrics metrics) {
+			this.delegate = delegate;
+			this.label = label;
+			this.metrics = metrics;
+		}
+
+		@Override
+		public Object get() throws Exception {
+			return delegate.get();
+		}
+
+		@Override
+		public void reset() throws Exception {
+			delegate.reset();
+		}
+
+		@Override
+		public void close() throws Exception {
+			long start = metrics.start();
+			try {
+				delegate.close();
+			}
+			finally {
+				metrics.record(label, Phase.CLOSE, start, null);
+			}
+		}
+
+	}
+
+	private static class TimedLock implements Lock {
+
+		private final Lock delegate;
+		private final String label;
+		private final ExtensionContext context;
+		private final ResourceMetrics metrics;
+
+		TimedLock(Lock delegate, String label, ExtensionContext context, ResourceMetrics metrics) {
+			this.delegate = delegate;
+			this.label = label;
+			this.context = context;
+			this.metrics = metrics;
+		}
+
+		@Override
+		public void lock() {
+			long start = metrics.start();
+			delegate.lock();
+			metrics.record(label, Phase.LOCK_WAIT, start, context);
+		}
+
+		@Override
+		public void lockInterruptibly() throws InterruptedException {
+			long start = metrics.start();
+			delegate.lockInterruptibly();
+			metrics.record(label, Phase.LOCK_WAIT, start, context);
+		}
+
+		@Override
+		public boolean tryLock() {
+			return delegate.tryLock();
+		}
+
+		@Override
+		public boolean tryLock(long time, TimeUnit unit) throws InterruptedException {
+			return delegate.tryLock(time, unit);
+		}
+
+		@Override
+		public void unlock() {
+			delegate.unlock();
+		}
+
+		@Override
+		public Condition newCondition() {
+			return delegate.newCondition();
+		}
+
+	}
+
+}
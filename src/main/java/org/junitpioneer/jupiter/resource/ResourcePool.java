@@ -0,0 +1,201 @@
+/*
+ * Copyright 2016-2023 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v2.0 which
+ * accompanies this distribution and is available at
+ *
+ * http://www.eclipse.org/legal/epl-v20.html
+ */
+
+package org.junitpioneer.jupiter.resource;
+
+import static java.lang.String.format;
+
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+import org.junit.jupiter.api.extension.ExtensionConfigurationException;
+import org.junit.jupiter.api.extension.ParameterResolutionException;
+
+/**
+ * A bounded pool of interchangeable resources for {@link Pooled @Pooled}.
+ *
+ * <p>Resources are created on demand until the pool is full, after which borrowing
+ * waits for another test to return a resource. Tests that wait for each other's resources
+ * would wait forever, so waiting fails after a timeout. Closing the pool closes all resources
+ * it created.</p>
+ */
+@SuppressWarnings("try")
+class ResourcePool implements AutoCloseable {
+
+	private final Pooled pooledAnnotation;
+	private final Supplier<Resource<?>> resourceCreator;
+	private final Semaphore permits;
+	private final Duration timeout;
+
+	// guarded by `this`
+	private final Deque<Resource<?>> idleResources = new ArrayDeque<>();
+	private final List<Resource<?>> allResources = new ArrayList<>();
+
+	ResourcePool(Pooled pooledAnnotation, Supplier<Resource<?>> resourceCreator, Duration timeout) {
+		this.pooledAnnotation = pooledAnnotation;
+		this.resourceCreator = resourceCreator;
+		this.timeout = timeout;
+		// fair, so a waiting test isn't overtaken indefinitely by later ones
+		this.permits = new Semaphore(pooledAnnotation.size(), true);
+	}
+
+	Pooled annotation() {
+		return pooledAnnotation;
+	}
+
+	/**
+	 * Borrows a resource, which must be {@link #giveBack(Resource) given back} later.
+	 * Creates a new resource if there's no idle one and the pool isn't full yet.
+	 */
+	Resource<?> borrow() {
+		try {
+			if (!permits.tryAcquire(timeout.toMillis(), TimeUnit.MILLISECONDS)) {
+				// @formatter:off
+				String message = format(
+						"Timed out after %d ms waiting for a resource from the pool \"%s\" (see %s); "
+								+ "tests that borrow from several pools may be waiting for each other's resources",
+						timeout.toMillis(), pooledAnnotation.name(), ResourceExtension.POOL_TIMEOUT_CONFIG_PARAM);
+				// @formatter:on
+				throw new ExtensionConfigurationException(message);
+			}
+		}
+		catch (InterruptedException ex) {
+			Thread.currentThread().interrupt();
+			throw new ParameterResolutionException(
+				format("Interrupted while waiting for a resource from the pool \"%s\"", pooledAnnotation.name()), ex);
+		}
+
+		synchronized (this) {
+			Resource<?> idleResource = idleResources.pollFirst();
+			if (idleResource != null)
+				return idleResource;
+		}
+
+		try {
+			Resource<?> resource = resourceCreator.get();
+			synchronized (this) {
+				allResources.add(resource);
+			}
+			return resource;
+		}
+		catch (RuntimeException ex) {
+			permits.release();
+			throw ex;
+		}
+	}
+
+	/**
+	 * Resets the resource and makes it available to other tests.
+	 * If resetting fails, the resource is closed and removed from the pool instead.
+	 */
+	void giveBack(Resource<?> resource) throws Exception {
+		try {
+			resource.reset();
+			synchronized (this) {
+				idleResources.addFirst(resource);
+			}
+		}
+		catch (Exception ex) {
+			synchronized (this) {
+				allResources.remove(resource);
+			}
+			try {
+				resource.close();
+			}
+			catch (Exception closeException) {
+				ex.addSuppressed(closeException);
+			}
+			throw ex;
+		}
+		finally {
+			permits.release();
+		}
+	}
+
+	@Override
+	public void close() throws Exception {
+		List<Resource<?>> resources;
+		synchronized (this) {
+			resources = new ArrayList<>(allResources);
+			allResources.clear();
+			idleResources.clear();
+		}
+
+		Exception failure = null;
+		for (Resource<?> resource : resources) {
+			try {
+				resource.close();
+			}
+			catch (Exception ex) {
+				if (failure == null)
+					failure = ex;
+				else
+					failure.addSuppressed(ex);
+			}
+		}
+		if (failure != null)
+			throw failure;
+	}
+
+	/**
+	 * The resources that one extension context borrowed from a pool, which are given back
+	 * when the extension store they're kept in is closed.
+	 */
+	static class Leases implements AutoCloseable {
+
+		private final ResourcePool pool;
+		// guarded by `this`
+		private final List<Resource<?>> resources = new ArrayList<>();
+
+		Leases(ResourcePool pool) {
+			this.pool = pool;
+		}
+
+		synchronized void add(Resource<?> resource) {
+			resources.add(resource);
+		}
+
+		synchronized int count() {
+			return resources.size();
+		}
+
+		@Override
+		public void close() throws Exception {
+			List<Resource<?>> borrowedResources;
+			synchronized (this) {
+				borrowedResources = new ArrayList<>(resources);
+				resources.clear();
+			}
+
+			Exception failure = null;
+			for (Resource<?> resource : borrowedResources) {
+				try {
+					pool.giveBack(resource);
+				}
+				catch (Exception ex) {
+					if (failure == null)
+						failure = ex;
+					else
+						failure.addSuppressed(ex);
+				}
+			}
+			if (failure != null)
+				throw failure;
+		}
+
+	}
+
+}
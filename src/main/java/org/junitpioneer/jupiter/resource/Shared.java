@@ -16,6 +16,7 @@ import java.lang.annotation.RetentionPolicy;
 import java.lang.annotation.Target;
 
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.parallel.ResourceAccessMode;
 
 /**
  * {@code @Shared} is used to create a resource that is shared with multiple tests.
@@ -60,6 +61,18 @@ public @interface Shared {
 	 */
 	Scope scope() default Scope.SOURCE_FILE;
 
+	/**
+	 * How the test uses the resource.
+	 *
+	 * <p>Tests that only {@link ResourceAccessMode#READ read} a shared resource can run
+	 * in parallel with each other, but never in parallel with tests that
+	 * {@link ResourceAccessMode#READ_WRITE write} to it.
+	 * The default is {@code READ_WRITE}, which gives a test exclusive access to the resource.</p>
+	 *
+	 * @since 3.0
+	 */
+	ResourceAccessMode access() default ResourceAccessMode.READ_WRITE;
+
 	/**
 	 * {@code Scope} specifies how long a shared resource lives.
 	 *
@@ -10,12 +10,19 @@
 
 package org.junitpioneer.jupiter.resource;
 
+import static java.lang.String.format;
 import static java.util.Objects.requireNonNull;
 
 import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.nio.file.Paths;
 import java.util.List;
+import java.util.Locale;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.extension.ExtensionConfigurationException;
+import org.junit.jupiter.api.extension.ExtensionContext;
 
 /**
  * {@code TemporaryDirectory} is a "resource factory" implementation that, combined with
@@ -24,7 +31,11 @@ import java.util.List;
  *
  * <p>When used with the {@code @New} annotation and the annotation's {@code arguments} field is
  * populated, the first argument will be used as the <i>prefix</i> of the name of the temporary
- * directory.</p>
+ * directory. If there's a second argument, it's the path of a <i>template</i> directory whose
+ * content is copied into the new temporary directory.</p>
+ *
+ * <p>When used with {@link Pooled @Pooled}, the directory is emptied before it is handed to
+ * the next test.</p>
  *
  * <p>It is part of the "resources" JUnit Jupiter extension, which pertains to anything that needs
  * to be injected into tests and which may need to be started up or torn down. Temporary
@@ -44,22 +55,110 @@ import java.util.List;
 @SuppressWarnings("try")
 public final class TemporaryDirectory implements ResourceFactory<Path> {
 
+	static final String DELETION_CONFIG_PARAM = "org.junitpioneer.jupiter.resource.tempdir.deletion";
+	static final String LOCATION_CONFIG_PARAM = "org.junitpioneer.jupiter.resource.tempdir.location";
+
+	// a RAM disk that most Linux distributions mount by default
+	static final Path MEMORY_LOCATION = Paths.get("/dev/shm");
+
+	// if set, directories are created here instead of in the default temporary-file directory
+	private Path location;
+
+	// if set, closed directories are moved here instead of being deleted right away
+	private TemporaryDirectoryTrash trash;
+	// if set, templates are only walked once per test run
+	private ExtensionContext context;
+
+	/**
+	 * Applies the configuration parameters of the test run; called by the extension
+	 * right after creating the factory.
+	 */
+	void configure(ExtensionContext context) {
+		this.context = context;
+		location = context.getConfigurationParameter(LOCATION_CONFIG_PARAM).map(this::location).orElse(null);
+		String deletion = context.getConfigurationParameter(DELETION_CONFIG_PARAM).orElse("immediate");
+		switch (deletion.trim().toLowerCase(Locale.ROOT)) {
+			case "immediate":
+				trash = null;
+				break;
+			case "deferred":
+				trash = TemporaryDirectoryTrash.of(context);
+				break;
+			default:
+				throw new ExtensionConfigurationException(
+					format("The configuration parameter %s must be 'immediate' or 'deferred', but was '%s'",
+						DELETION_CONFIG_PARAM, deletion));
+		}
+	}
+
 	@Override
 	public Resource<Path> create(List<String> arguments) throws Exception {
-		if (arguments.size() >= 2) {
-			throw new IllegalArgumentException("Expected 0 or 1 arguments, but got " + arguments.size());
+		if (arguments.size() >= 3) {
+			throw new IllegalArgumentException("Expected 0, 1, or 2 arguments, but got " + arguments.size());
 		}
-		String directoryPrefix = (arguments.size() == 1) ? arguments.get(0) : "";
+		String directoryPrefix = (arguments.size() >= 1) ? arguments.get(0) : "";
 		requireNonNull(directoryPrefix, "Argument 0 can't be null");
-		return new TemporaryDirectoryResource(Files.createTempDirectory(directoryPrefix));
+		TemporaryDirectoryTemplate template = (arguments.size() == 2) ? template(arguments.get(1)) : null;
+
+		Path tempDir = location == null
+				? Files.createTempDirectory(directoryPrefix)
+				: Files.createTempDirectory(location, directoryPrefix);
+		TemporaryDirectoryResource resource = new TemporaryDirectoryResource(tempDir, trash);
+		try {
+			if (template != null)
+				template.copyTo(tempDir);
+		}
+		catch (Exception ex) {
+			try {
+				resource.close();
+			}
+			catch (Exception closeException) {
+				ex.addSuppressed(closeException);
+			}
+			throw ex;
+		}
+		return resource;
+	}
+
+	private Path location(String location) {
+		if (location.trim().equalsIgnoreCase("memory")) {
+			if (!Files.isDirectory(MEMORY_LOCATION) || !Files.isWritable(MEMORY_LOCATION)) {
+				// @formatter:off
+				String message = format(
+						"The configuration parameter %s is 'memory', but there is no writable RAM disk at %s",
+						LOCATION_CONFIG_PARAM, MEMORY_LOCATION);
+				// @formatter:on
+				throw new ExtensionConfigurationException(message);
+			}
+			return MEMORY_LOCATION;
+		}
+
+		Path path = Paths.get(location);
+		if (!Files.isDirectory(path)) {
+			// @formatter:off
+			String message = format(
+					"The configuration parameter %s must be 'memory' or the path of an existing directory, but was '%s'",
+					LOCATION_CONFIG_PARAM, location);
+			// @formatter:on
+			throw new ExtensionConfigurationException(message);
+		}
+		return path;
+	}
+
+	private TemporaryDirectoryTemplate template(String templateDirectory) throws IOException {
+		requireNonNull(templateDirectory, "Argument 1 can't be null");
+		Path root = Paths.get(templateDirectory);
+		return context == null ? TemporaryDirectoryTemplate.of(root) : TemporaryDirectoryTemplate.of(context, root);
 	}
 
 	private static final class TemporaryDirectoryResource implements Resource<Path> {
 
 		private final Path tempDir;
+		private final TemporaryDirectoryTrash trash;
 
-		TemporaryDirectoryResource(Path tempDir) {
+		TemporaryDirectoryResource(Path tempDir, TemporaryDirectoryTrash trash) {
 			this.tempDir = tempDir;
+			this.trash = trash;
 		}
 
 		@Override
@@ -67,13 +166,28 @@ public final class TemporaryDirectory implements ResourceFactory<Path> {
 			return tempDir;
 		}
 
+		@Override
+		public void reset() throws Exception {
+			// delete the contents, but keep the directory itself
+			try (Stream<Path> children = Files.list(tempDir)) {
+				for (Path child : (Iterable<Path>) children::iterator)
+					deleteRecursively(child);
+			}
+		}
+
 		@Override
 		public void close() throws Exception {
+			if (trash != null && trash.moveToTrash(tempDir))
+				return;
 			deleteRecursively(tempDir);
 		}
 
 		private static void deleteRecursively(Path tempDir) throws IOException {
-			Files.walkFileTree(tempDir, PathDeleter.INSTANCE);
+			// when cleaning up asynchronously, the cleaner's pool can delete subtrees in parallel
+			if (ResourceCleaner.isCleanerThread())
+				ParallelPathDeleter.delete(tempDir);
+			else
+				Files.walkFileTree(tempDir, PathDeleter.INSTANCE);
 		}
 
 	}
@@ -0,0 +1,126 @@
+/*
+ * Copyright 2016-2023 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v2.0 which
+ * accompanies this distribution and is available at
+ *
+ * http://www.eclipse.org/legal/epl-v20.html
+ */
+
+package org.junitpioneer.jupiter.resource;
+
+import static java.lang.String.format;
+import static java.util.stream.Collectors.toUnmodifiableList;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.LinkOption;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.extension.ExtensionContext;
+
+/**
+ * A directory tree that new temporary directories are seeded with.
+ *
+ * <p>The tree is walked once when the template is created, so seeding a directory only
+ * creates the subdirectories and copies the files, which happens in parallel. Files are
+ * copied instead of linked because tests may change them.</p>
+ */
+class TemporaryDirectoryTemplate {
+
+	private static final String TEMPLATES_KEY = "temporary directory templates";
+
+	private final Path root;
+	// relative to the root, parents before their children
+	private final List<Path> directories;
+	// relative to the root, including symbolic links
+	private final List<Path> files;
+
+	private TemporaryDirectoryTemplate(Path root, List<Path> directories, List<Path> files) {
+		this.root = root;
+		this.directories = directories;
+		this.files = files;
+	}
+
+	/**
+	 * Returns the template for the given directory, which is only walked once per test run.
+	 */
+	@SuppressWarnings("unchecked")
+	static TemporaryDirectoryTemplate of(ExtensionContext context, Path root) throws IOException {
+		ConcurrentMap<Path, TemporaryDirectoryTemplate> templates = context
+				.getRoot()
+				.getStore(ExtensionContext.Namespace.create(TemporaryDirectoryTemplate.class))
+				.computeIfAbsent(TEMPLATES_KEY, __ -> new ConcurrentHashMap<>(), ConcurrentMap.class);
+		try {
+			return templates.computeIfAbsent(root.toAbsolutePath().normalize(), path -> {
+				try {
+					return of(path);
+				}
+				catch (IOException ex) {
+					throw new UncheckedIOException(ex);
+				}
+			});
+		}
+		catch (UncheckedIOException ex) {
+			throw ex.getCause();
+		}
+	}
+
+	/**
+	 * Walks the given directory to create a template that isn't cached.
+	 */
+	static TemporaryDirectoryTemplate of(Path root) throws IOException {
+		if (!Files.isDirectory(root))
+			throw new IllegalArgumentException(format("The template [%s] is not a directory", root));
+
+		try (Stream<Path> paths = Files.walk(root)) {
+			// `Files.walk` doesn't follow links, so a linked directory is copied as a link
+			List<Path> all = paths.filter(path -> !path.equals(root)).collect(toUnmodifiableList());
+			List<Path> directories = all
+					.stream()
+					.filter(path -> Files.isDirectory(path, LinkOption.NOFOLLOW_LINKS))
+					.map(root::relativize)
+					.collect(toUnmodifiableList());
+			List<Path> files = all
+					.stream()
+					.filter(path -> !Files.isDirectory(path, LinkOption.NOFOLLOW_LINKS))
+					.map(root::relativize)
+					.collect(toUnmodifiableList());
+			return new TemporaryDirectoryTemplate(root, directories, files);
+		}
+	}
+
+	/**
+	 * Copies the template's content into the given (existing) directory.
+	 */
+	void copyTo(Path target) throws IOException {
+		// `Files.walk` visits parents first, so they're created before their children
+		for (Path directory : directories)
+			Files.createDirectories(target.resolve(directory.toString()));
+		try {
+			files.parallelStream().forEach(file -> copy(file, target));
+		}
+		catch (UncheckedIOException ex) {
+			throw ex.getCause();
+		}
+	}
+
+	private void copy(Path file, Path target) {
+		try {
+			Files
+					.copy(root.resolve(file), target.resolve(file.toString()), StandardCopyOption.COPY_ATTRIBUTES,
+						LinkOption.NOFOLLOW_LINKS);
+		}
+		catch (IOException ex) {
+			throw new UncheckedIOException(ex);
+		}
+	}
+
+}
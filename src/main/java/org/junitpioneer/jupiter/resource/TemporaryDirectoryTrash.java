@@ -0,0 +1,110 @@
+/*
+ * Copyright 2016-2023 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v2.0 which
+ * accompanies this distribution and is available at
+ *
+ * http://www.eclipse.org/legal/epl-v20.html
+ */
+
+package org.junitpioneer.jupiter.resource;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import org.junit.jupiter.api.extension.ExtensionContext;
+
+/**
+ * Collects closed temporary directories, so they can be deleted in one batch at the end of the test run.
+ *
+ * <p>Moving a directory into the trash is a single rename, which is much faster than deleting
+ * a large tree and immediately frees the directory's name. To make sure the rename is atomic,
+ * there's one trash directory next to the temporary directories, i.e. on the same file system.</p>
+ */
+class TemporaryDirectoryTrash {
+
+	private static final String TRASH_KEY = "temporary directory trash";
+
+	// trash directories by the directories they're located in
+	private final ConcurrentMap<Path, Path> trashDirectories = new ConcurrentHashMap<>();
+
+	private TemporaryDirectoryTrash() {
+		// use `of(ExtensionContext)`
+	}
+
+	static TemporaryDirectoryTrash of(ExtensionContext context) {
+		ResourceCleaner cleaner = ResourceCleaner.of(context);
+		return context
+				.getRoot()
+				.getStore(ExtensionContext.Namespace.create(TemporaryDirectoryTrash.class))
+				.computeIfAbsent(TRASH_KEY, __ -> {
+					TemporaryDirectoryTrash trash = new TemporaryDirectoryTrash();
+					// closed directories may only be moved into the trash during (asynchronous) cleanup
+					cleaner.afterAllCleanups(trash::empty);
+					return trash;
+				}, TemporaryDirectoryTrash.class);
+	}
+
+	/**
+	 * Moves the directory into the trash.
+	 *
+	 * @return {@code true} if the directory was moved, {@code false} if it can't be moved
+	 *         atomically and needs to be deleted right away
+	 */
+	boolean moveToTrash(Path directory) {
+		Path parent = directory.toAbsolutePath().getParent();
+		if (parent == null)
+			return false;
+		try {
+			Path trashDirectory = trashDirectory(parent);
+			// temporary directories in the same parent have unique names, so they don't collide in the trash
+			Files.move(directory, trashDirectory.resolve(directory.getFileName()), StandardCopyOption.ATOMIC_MOVE);
+			return true;
+		}
+		catch (IOException ex) {
+			return false;
+		}
+	}
+
+	private Path trashDirectory(Path parent) throws IOException {
+		Path trashDirectory = trashDirectories.get(parent);
+		if (trashDirectory != null)
+			return trashDirectory;
+		synchronized (this) {
+			trashDirectory = trashDirectories.get(parent);
+			if (trashDirectory == null) {
+				trashDirectory = Files.createTempDirectory(parent, "junit-pioneer-trash-");
+				trashDirectories.put(parent, trashDirectory);
+			}
+			return trashDirectory;
+		}
+	}
+
+	private void empty() throws IOException {
+		List<Path> directories = new ArrayList<>(trashDirectories.values());
+		trashDirectories.clear();
+
+		IOException failure = null;
+		for (Path directory : directories) {
+			try {
+				ParallelPathDeleter.delete(directory);
+			}
+			catch (IOException ex) {
+				if (failure == null)
+					failure = ex;
+				else
+					failure.addSuppressed(ex);
+			}
+		}
+		if (failure != null)
+			throw failure;
+	}
+
+}
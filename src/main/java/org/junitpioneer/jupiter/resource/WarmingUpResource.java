@@ -0,0 +1,75 @@
+/*
+ * Copyright 2016-2023 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v2.0 which
+ * accompanies this distribution and is available at
+ *
+ * http://www.eclipse.org/legal/epl-v20.html
+ */
+
+package org.junitpioneer.jupiter.resource;
+
+import static java.lang.String.format;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+
+import org.junit.jupiter.api.extension.ParameterResolutionException;
+
+/**
+ * A shared resource that is being created in the background.
+ *
+ * <p>It takes the place of the actual resource in the extension store, so closing the store
+ * closes the actual resource once its creation is done.</p>
+ */
+@SuppressWarnings("try")
+class WarmingUpResource implements Resource<Object> {
+
+	private final String name;
+	private final CompletableFuture<Resource<?>> creation;
+
+	WarmingUpResource(String name, CompletableFuture<Resource<?>> creation) {
+		this.name = name;
+		this.creation = creation;
+	}
+
+	/**
+	 * Waits for the creation of the actual resource to finish.
+	 *
+	 * @throws ParameterResolutionException if creating the resource failed
+	 */
+	Resource<?> await() {
+		try {
+			return creation.get();
+		}
+		catch (InterruptedException ex) {
+			Thread.currentThread().interrupt();
+			throw new ParameterResolutionException(
+				format("Interrupted while waiting for the shared resource \"%s\" to warm up", name), ex);
+		}
+		catch (ExecutionException ex) {
+			throw new ParameterResolutionException(format("Warming up the shared resource \"%s\" failed", name),
+				ex.getCause());
+		}
+	}
+
+	@Override
+	public Object get() throws Exception {
+		return await().get();
+	}
+
+	@Override
+	public void close() throws Exception {
+		Resource<?> resource;
+		try {
+			resource = creation.join();
+		}
+		catch (RuntimeException ex) {
+			// creation failed, so there is nothing to close
+			return;
+		}
+		resource.close();
+	}
+
+}
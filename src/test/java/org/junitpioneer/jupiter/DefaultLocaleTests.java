@@ -16,6 +16,8 @@ import static org.junitpioneer.testkit.PioneerTestKit.executeTestMethod;
 import static org.junitpioneer.testkit.assertion.PioneerAssert.assertThat;
 
 import java.util.Locale;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Stream;
 
 import org.junit.jupiter.api.AfterAll;
 import org.junit.jupiter.api.BeforeAll;
@@ -24,6 +26,9 @@ import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.TestInstance;
 import org.junit.jupiter.api.extension.ExtensionConfigurationException;
+import org.junit.jupiter.api.extension.ParameterResolutionException;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
 import org.junitpioneer.internal.PioneerUtils;
 import org.junitpioneer.testkit.ExecutionResults;
 
@@ -80,14 +85,19 @@ class DefaultLocaleTests {
 		}
 
 		/**
-		 * A valid variant checked by {@link sun.util.locale.LanguageTag#isVariant} against BCP 47 (or more detailed RFC 5646) matches either {@code [0-9a-Z]{5-8}} or {@code [0-9][0-9a-Z]{3}}.
+		 * A valid variant checked by {@link sun.util.locale.LanguageTag#isVariant} against BCP 47
+		 * (or more detailed RFC 5646) matches either {@code [0-9a-Z]{5-8}} or {@code [0-9][0-9a-Z]{3}}.
 		 * It does NOT check if such a variant exists in real.
 		 * <br>
-		 * The Locale-Builder accepts valid variants, concatenated by minus or underscore (minus will be transformed by the builder).
+		 * The Locale-Builder accepts valid variants, concatenated by minus or underscore
+		 * (minus will be transformed by the builder).
 		 * This means "en-EN" is a valid languageTag, but not a valid IETF BCP 47 variant subtag.
 		 * <br>
-		 * This is very confusing as the <a href="https://www.oracle.com/java/technologies/javase/jdk11-suported-locales.html">official page for supported locales</a> shows that japanese locales return {@code *} or {@code JP} as a variant.
-		 * Even more confusing the enum values {@code Locale.JAPAN} and {@code Locale.JAPANESE} don't return a variant.
+		 * This is very confusing as the
+		 * <a href="https://www.oracle.com/java/technologies/javase/jdk11-suported-locales.html">official page
+		 * for supported locales</a> shows that japanese locales return {@code *} or {@code JP} as a variant.
+		 * Even more confusing the enum values {@code Locale.JAPAN} and {@code Locale.JAPANESE} don't return
+		 * a variant.
 		 *
 		 * @see <a href="https://www.rfc-editor.org/rfc/rfc5646.html">RFC 5646</a>
 		 */
@@ -452,6 +462,49 @@ class DefaultLocaleTests {
 					.hasMessageContaining("could not be constructed because of an exception");
 		}
 
+		@Test
+		@WritesDefaultLocale
+		@DisplayName("creates the locale once for tests with the same configuration")
+		void cachesProvidedLocale() {
+			CountingLocaleProvider.INSTANCES.set(0);
+			UncachedLocaleProvider.INSTANCES.set(0);
+
+			ExecutionResults results = executeTestClass(CachingProviderTestCases.class);
+
+			assertThat(results).hasNumberOfSucceededTests(4);
+			assertThat(CountingLocaleProvider.INSTANCES).hasValue(1);
+			// providers can opt out of caching
+			assertThat(UncachedLocaleProvider.INSTANCES).hasValue(2);
+		}
+
+	}
+
+	static class CachingProviderTestCases {
+
+		@Test
+		@DefaultLocale(localeProvider = CountingLocaleProvider.class)
+		void cached() {
+			assertThat(Locale.getDefault()).isEqualTo(Locale.GERMAN);
+		}
+
+		@Test
+		@DefaultLocale(localeProvider = CountingLocaleProvider.class)
+		void cachedAgain() {
+			assertThat(Locale.getDefault()).isEqualTo(Locale.GERMAN);
+		}
+
+		@Test
+		@DefaultLocale(localeProvider = UncachedLocaleProvider.class)
+		void uncached() {
+			assertThat(Locale.getDefault()).isEqualTo(Locale.ITALIAN);
+		}
+
+		@Test
+		@DefaultLocale(localeProvider = UncachedLocaleProvider.class)
+		void uncachedAgain() {
+			assertThat(Locale.getDefault()).isEqualTo(Locale.ITALIAN);
+		}
+
 	}
 
 	static class BadProviderTestCases {
@@ -503,6 +556,41 @@ class DefaultLocaleTests {
 
 	}
 
+	static class CountingLocaleProvider implements LocaleProvider {
+
+		static final AtomicInteger INSTANCES = new AtomicInteger();
+
+		CountingLocaleProvider() {
+			INSTANCES.incrementAndGet();
+		}
+
+		@Override
+		public Locale get() {
+			return Locale.GERMAN;
+		}
+
+	}
+
+	static class UncachedLocaleProvider implements LocaleProvider {
+
+		static final AtomicInteger INSTANCES = new AtomicInteger();
+
+		UncachedLocaleProvider() {
+			INSTANCES.incrementAndGet();
+		}
+
+		@Override
+		public Locale get() {
+			return Locale.ITALIAN;
+		}
+
+		@Override
+		public boolean isCacheable() {
+			return false;
+		}
+
+	}
+
 	static class ReturnsNullLocaleProvider implements LocaleProvider {
 
 		@Override
@@ -527,4 +615,72 @@ class DefaultLocaleTests {
 
 	}
 
+	@Nested
+	@DisplayName("used on a parameter")
+	class InjectionTests {
+
+		@Test
+		@WritesDefaultLocale
+		@DisplayName("injects the locale and reports the tests that ran without locking it")
+		void injectsLocale() {
+			ExecutionResults results = executeTestClass(InjectionTestCases.class);
+
+			assertThat(results).hasNumberOfSucceededTests(3);
+			assertThat(results)
+					.hasSingleReportEntry()
+					.withKeyAndValue("default locale injection",
+						"2 of 3 tests that got the default locale injected ran without locking it");
+		}
+
+		@Test
+		@WritesDefaultLocale
+		@DisplayName("fails for parameters that aren't locales")
+		void failsForOtherTypes() {
+			ExecutionResults results = executeTestClass(WrongParameterTypeTestCases.class);
+
+			assertThat(results)
+					.hasSingleFailedTest()
+					.withExceptionInstanceOf(ParameterResolutionException.class)
+					.hasMessage("@DefaultLocale can only be used on parameters of type java.util.Locale");
+		}
+
+	}
+
+	static class InjectionTestCases {
+
+		@Test
+		void injected(@DefaultLocale("de-DE") Locale locale) {
+			assertThat(locale).isEqualTo(Locale.GERMANY);
+			// this test doesn't lock the default locale, so only check that it wasn't changed to the injected one
+			assertThat(Locale.getDefault()).isNotEqualTo(Locale.GERMANY);
+		}
+
+		@Test
+		@DefaultLocale("fr-FR")
+		void injectedAndChanged(@DefaultLocale("de-DE") Locale locale) {
+			assertThat(locale).isEqualTo(Locale.GERMANY);
+			assertThat(Locale.getDefault()).isEqualTo(Locale.FRANCE);
+		}
+
+		@ParameterizedTest
+		@MethodSource("locales")
+		void injectedNextToArgument(Locale argument, @DefaultLocale("de-DE") Locale locale) {
+			assertThat(argument).isEqualTo(Locale.ITALY);
+			assertThat(locale).isEqualTo(Locale.GERMANY);
+		}
+
+		static Stream<Locale> locales() {
+			return Stream.of(Locale.ITALY);
+		}
+
+	}
+
+	static class WrongParameterTypeTestCases {
+
+		@Test
+		void wrongType(@DefaultLocale("de-DE") String locale) {
+		}
+
+	}
+
 }
@@ -16,6 +16,8 @@ import static org.junitpioneer.testkit.PioneerTestKit.executeTestMethod;
 import static org.junitpioneer.testkit.assertion.PioneerAssert.assertThat;
 
 import java.util.TimeZone;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Stream;
 
 import org.junit.jupiter.api.AfterAll;
 import org.junit.jupiter.api.AfterEach;
@@ -25,6 +27,8 @@ import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.TestInstance;
 import org.junit.jupiter.api.extension.ExtensionConfigurationException;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
 import org.junitpioneer.testkit.ExecutionResults;
 
 @Deprecated(forRemoval = true, since = "3.0")
@@ -323,6 +327,49 @@ class DefaultTimeZoneTests {
 					.hasMessageContaining("Could not instantiate TimeZoneProvider because of exception");
 		}
 
+		@Test
+		@WritesDefaultTimeZone
+		@DisplayName("creates the time zone once for tests with the same configuration")
+		void cachesProvidedTimeZone() {
+			CountingTimeZoneProvider.INSTANCES.set(0);
+			UncachedTimeZoneProvider.INSTANCES.set(0);
+
+			ExecutionResults results = executeTestClass(CachingProviderTestCases.class);
+
+			assertThat(results).hasNumberOfSucceededTests(4);
+			assertThat(CountingTimeZoneProvider.INSTANCES).hasValue(1);
+			// providers can opt out of caching
+			assertThat(UncachedTimeZoneProvider.INSTANCES).hasValue(2);
+		}
+
+	}
+
+	static class CachingProviderTestCases {
+
+		@Test
+		@DefaultTimeZone(timeZoneProvider = CountingTimeZoneProvider.class)
+		void cached() {
+			assertThat(TimeZone.getDefault()).isEqualTo(TimeZone.getTimeZone("Asia/Tokyo"));
+		}
+
+		@Test
+		@DefaultTimeZone(timeZoneProvider = CountingTimeZoneProvider.class)
+		void cachedAgain() {
+			assertThat(TimeZone.getDefault()).isEqualTo(TimeZone.getTimeZone("Asia/Tokyo"));
+		}
+
+		@Test
+		@DefaultTimeZone(timeZoneProvider = UncachedTimeZoneProvider.class)
+		void uncached() {
+			assertThat(TimeZone.getDefault()).isEqualTo(TimeZone.getTimeZone("America/Lima"));
+		}
+
+		@Test
+		@DefaultTimeZone(timeZoneProvider = UncachedTimeZoneProvider.class)
+		void uncachedAgain() {
+			assertThat(TimeZone.getDefault()).isEqualTo(TimeZone.getTimeZone("America/Lima"));
+		}
+
 	}
 
 	static class BadTimeZoneProviderTestCases {
@@ -356,6 +403,41 @@ class DefaultTimeZoneTests {
 
 	}
 
+	static class CountingTimeZoneProvider implements TimeZoneProvider {
+
+		static final AtomicInteger INSTANCES = new AtomicInteger();
+
+		CountingTimeZoneProvider() {
+			INSTANCES.incrementAndGet();
+		}
+
+		@Override
+		public TimeZone get() {
+			return TimeZone.getTimeZone("Asia/Tokyo");
+		}
+
+	}
+
+	static class UncachedTimeZoneProvider implements TimeZoneProvider {
+
+		static final AtomicInteger INSTANCES = new AtomicInteger();
+
+		UncachedTimeZoneProvider() {
+			INSTANCES.incrementAndGet();
+		}
+
+		@Override
+		public TimeZone get() {
+			return TimeZone.getTimeZone("America/Lima");
+		}
+
+		@Override
+		public boolean isCacheable() {
+			return false;
+		}
+
+	}
+
 	static class NullProvider implements TimeZoneProvider {
 
 		@Override
@@ -380,4 +462,54 @@ class DefaultTimeZoneTests {
 
 	}
 
+	@Nested
+	@DisplayName("used on a parameter")
+	class InjectionTests {
+
+		@Test
+		@WritesDefaultTimeZone
+		@DisplayName("injects the time zone and reports the tests that ran without locking it")
+		void injectsTimeZone() {
+			ExecutionResults results = executeTestClass(InjectionTestCases.class);
+
+			assertThat(results).hasNumberOfSucceededTests(3);
+			assertThat(results)
+					.hasSingleReportEntry()
+					.withKeyAndValue("default time zone injection",
+						"2 of 3 tests that got the default time zone injected ran without locking it");
+		}
+
+	}
+
+	static class InjectionTestCases {
+
+		private static final TimeZone CHATHAM = TimeZone.getTimeZone("Pacific/Chatham");
+
+		@Test
+		void injected(@DefaultTimeZone("Pacific/Chatham") TimeZone timeZone) {
+			assertThat(timeZone).isEqualTo(CHATHAM);
+			// this test doesn't lock the default time zone, so only check that it wasn't changed to the injected one
+			assertThat(TimeZone.getDefault()).isNotEqualTo(CHATHAM);
+		}
+
+		@Test
+		@DefaultTimeZone("Asia/Tokyo")
+		void injectedAndChanged(@DefaultTimeZone("Pacific/Chatham") TimeZone timeZone) {
+			assertThat(timeZone).isEqualTo(CHATHAM);
+			assertThat(TimeZone.getDefault()).isEqualTo(TimeZone.getTimeZone("Asia/Tokyo"));
+		}
+
+		@ParameterizedTest
+		@MethodSource("timeZones")
+		void injectedNextToArgument(TimeZone argument, @DefaultTimeZone("Pacific/Chatham") TimeZone timeZone) {
+			assertThat(argument).isEqualTo(TimeZone.getTimeZone("UTC"));
+			assertThat(timeZone).isEqualTo(CHATHAM);
+		}
+
+		static Stream<TimeZone> timeZones() {
+			return Stream.of(TimeZone.getTimeZone("UTC"));
+		}
+
+	}
+
 }
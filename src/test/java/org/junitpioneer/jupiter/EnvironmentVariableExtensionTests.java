@@ -16,6 +16,7 @@ import static org.junit.jupiter.api.parallel.ExecutionMode.SAME_THREAD;
 import static org.junitpioneer.jupiter.EnvironmentVariableExtension.WARNING_KEY;
 import static org.junitpioneer.jupiter.EnvironmentVariableExtension.WARNING_VALUE;
 import static org.junitpioneer.testkit.PioneerTestKit.executeTestClass;
+import static org.junitpioneer.testkit.PioneerTestKit.executeTestClassWithConfigurationParameters;
 import static org.junitpioneer.testkit.PioneerTestKit.executeTestMethod;
 import static org.junitpioneer.testkit.assertion.PioneerAssert.assertThat;
 
@@ -533,6 +534,57 @@ class EnvironmentVariableExtensionTests {
 
 	}
 
+	@Nested
+	@DisplayName("used with journaled restore")
+	@WritesEnvironmentVariable
+	class JournaledRestoreTests {
+
+		@Test
+		@DisplayName("should undo all modifications")
+		void shouldUndoAllModifications() {
+			ExecutionResults results = executeTestClassWithConfigurationParameters(
+				Map.of(EnvironmentVariableExtension.RESTORE_CONFIG_PARAM, "journal"), JournaledRestoreTestCases.class);
+
+			assertThat(results).hasNumberOfSucceededTests(1);
+			assertThat(systemEnvironmentVariable("set envvar A")).isEqualTo("old A");
+			assertThat(systemEnvironmentVariable("set envvar B")).isEqualTo("old B");
+			assertThat(systemEnvironmentVariable("clear envvar D")).isNull();
+			assertThat(systemEnvironmentVariable("clear envvar E")).isNull();
+		}
+
+		@Test
+		@DisplayName("should fail for an unknown restore mode")
+		void shouldFailForUnknownRestoreMode() {
+			ExecutionResults results = executeTestClassWithConfigurationParameters(
+				Map.of(EnvironmentVariableExtension.RESTORE_CONFIG_PARAM, "diff"), JournaledRestoreTestCases.class);
+
+			assertThat(results)
+					.hasSingleFailedTest()
+					.withExceptionInstanceOf(ExtensionConfigurationException.class)
+					.hasMessage("The configuration parameter " + EnvironmentVariableExtension.RESTORE_CONFIG_PARAM
+							+ " must be 'snapshot' or 'journal', but was 'diff'");
+		}
+
+	}
+
+	static class JournaledRestoreTestCases {
+
+		@Test
+		@RestoreEnvironmentVariables
+		@SetEnvironmentVariable(key = "set envvar A", value = "new A")
+		void modifiesEnvironmentVariables() {
+			EnvironmentVariableUtils.set("set envvar B", "new B");
+			EnvironmentVariableUtils.set("clear envvar D", "new D");
+			EnvironmentVariableUtils.setAll(Map.of("clear envvar E", "new E"));
+			EnvironmentVariableUtils.clear("clear envvar E");
+
+			assertThat(systemEnvironmentVariable("set envvar A")).isEqualTo("new A");
+			assertThat(systemEnvironmentVariable("set envvar B")).isEqualTo("new B");
+			assertThat(systemEnvironmentVariable("clear envvar D")).isEqualTo("new D");
+		}
+
+	}
+
 	@Nested
 	@DisplayName("used with incorrect configuration")
 	class ConfigurationFailureTests {
@@ -12,6 +12,7 @@ package org.junitpioneer.jupiter;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
+import java.util.List;
 import java.util.Map;
 
 import org.junit.jupiter.api.AfterEach;
@@ -31,6 +32,7 @@ class EnvironmentVariableUtilsTests {
 	@AfterEach
 	void removeTestEnvVar() {
 		EnvironmentVariableUtils.clear("TEST");
+		EnvironmentVariableUtils.clear("TEST_2");
 	}
 
 	@Test
@@ -44,4 +46,23 @@ class EnvironmentVariableUtilsTests {
 		assertThat(environmentCopy.get("TEST")).isEqualTo("test");
 	}
 
+	@Test
+	void repeatedModificationsAreVisible() {
+		EnvironmentVariableUtils.set("TEST", "first");
+		EnvironmentVariableUtils.set("TEST", "second");
+		assertThat(System.getenv("TEST")).isEqualTo("second");
+
+		EnvironmentVariableUtils.clear("TEST");
+		assertThat(System.getenv("TEST")).isNull();
+	}
+
+	@Test
+	void bulkModificationsAreVisible() {
+		EnvironmentVariableUtils.setAll(Map.of("TEST", "test", "TEST_2", "test 2"));
+		assertThat(System.getenv()).containsEntry("TEST", "test").containsEntry("TEST_2", "test 2");
+
+		EnvironmentVariableUtils.clearAll(List.of("TEST", "TEST_2"));
+		assertThat(System.getenv()).doesNotContainKeys("TEST", "TEST_2");
+	}
+
 }
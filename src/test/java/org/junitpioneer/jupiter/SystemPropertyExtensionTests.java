@@ -20,7 +20,9 @@ import java.lang.annotation.Inherited;
 import java.lang.annotation.Retention;
 import java.lang.annotation.RetentionPolicy;
 import java.lang.annotation.Target;
+import java.util.Map;
 import java.util.Properties;
+import java.util.Set;
 
 import org.junit.jupiter.api.AfterAll;
 import org.junit.jupiter.api.AfterEach;
@@ -427,6 +429,68 @@ class SystemPropertyExtensionTests {
 				}
 			}
 
+			@Test
+			@DisplayName("Modifications in a RestorableContext don't reach the original")
+			void modificationsDoNotReachOriginal() {
+				Properties initialState = System.getProperties();
+				System.setProperty("restorable", "original");
+
+				try {
+					Properties original = spe.prepareToEnterRestorableContext();
+					System.setProperty("restorable", "modified");
+					System.setProperty("restorable new", "added");
+					assertThat(System.getProperty("restorable")).isEqualTo("modified");
+					assertThat(System.getProperties().stringPropertyNames()).contains("restorable new");
+
+					spe.prepareToExitRestorableContext(original);
+
+					assertThat(System.getProperties()).isSameAs(initialState);
+					assertThat(System.getProperty("restorable")).isEqualTo("original");
+					assertThat(System.getProperty("restorable new")).isNull();
+				}
+				finally {
+					System.setProperties(initialState); // Ensure complete recovery
+					System.clearProperty("restorable");
+				}
+			}
+
+			@Test
+			@DisplayName("Views in a RestorableContext are live and writable")
+			void viewsAreLiveAndWritable() {
+				Properties initialState = System.getProperties();
+				System.setProperty("restorable removed", "original");
+				System.setProperty("restorable modified", "original");
+
+				try {
+					Properties original = spe.prepareToEnterRestorableContext();
+					Properties properties = System.getProperties();
+					Set<Object> keys = properties.keySet();
+					int initialSize = properties.size();
+
+					keys.removeIf("restorable removed"::equals);
+					properties.entrySet().forEach(entry -> {
+						if (entry.getKey().equals("restorable modified"))
+							entry.setValue("modified");
+					});
+					System.setProperty("restorable new", "added");
+
+					assertThat(keys).contains("restorable new").doesNotContain("restorable removed");
+					assertThat(properties).hasSize(initialSize).containsEntry("restorable modified", "modified");
+					assertThat(properties.entrySet().remove(Map.entry("restorable new", "added"))).isTrue();
+					assertThat(System.getProperty("restorable new")).isNull();
+
+					spe.prepareToExitRestorableContext(original);
+
+					assertThat(System.getProperty("restorable removed")).isEqualTo("original");
+					assertThat(System.getProperty("restorable modified")).isEqualTo("original");
+				}
+				finally {
+					System.setProperties(initialState); // Ensure complete recovery
+					System.clearProperty("restorable removed");
+					System.clearProperty("restorable modified");
+				}
+			}
+
 		}
 
 	}
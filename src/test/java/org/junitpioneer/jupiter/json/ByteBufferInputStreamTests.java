@@ -0,0 +1,72 @@
+/*
+ * Copyright 2016-2023 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v2.0 which
+ * accompanies this distribution and is available at
+ *
+ * http://www.eclipse.org/legal/epl-v20.html
+ */
+
+package org.junitpioneer.jupiter.json;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("ByteBufferInputStream")
+class ByteBufferInputStreamTests {
+
+	@Test
+	@DisplayName("reads all bytes of the buffer")
+	void readsAllBytes() throws Exception {
+		ByteBuffer buffer = ByteBuffer.wrap("{ \"name\": \"Yoda\" }".getBytes(StandardCharsets.UTF_8));
+
+		try (ByteBufferInputStream stream = new ByteBufferInputStream(buffer)) {
+			assertThat(new String(stream.readAllBytes(), StandardCharsets.UTF_8)).isEqualTo("{ \"name\": \"Yoda\" }");
+			assertThat(stream.read()).isEqualTo(-1);
+			assertThat(stream.read(new byte[4], 0, 4)).isEqualTo(-1);
+		}
+	}
+
+	@Test
+	@DisplayName("reads bytes as unsigned values")
+	void readsUnsignedBytes() throws Exception {
+		ByteBuffer buffer = ByteBuffer.wrap(new byte[] { (byte) 0xFF });
+
+		try (ByteBufferInputStream stream = new ByteBufferInputStream(buffer)) {
+			assertThat(stream.read()).isEqualTo(255);
+		}
+	}
+
+	@Test
+	@DisplayName("skips and reports available bytes")
+	void skipsBytes() throws Exception {
+		ByteBuffer buffer = ByteBuffer.wrap(new byte[] { 1, 2, 3, 4, 5 });
+
+		try (ByteBufferInputStream stream = new ByteBufferInputStream(buffer)) {
+			assertThat(stream.skip(2)).isEqualTo(2);
+			assertThat(stream.available()).isEqualTo(3);
+			assertThat(stream.read()).isEqualTo(3);
+			assertThat(stream.skip(10)).isEqualTo(2);
+			assertThat(stream.available()).isZero();
+		}
+	}
+
+	@Test
+	@DisplayName("does not change the position of the given buffer")
+	void leavesBufferUntouched() throws Exception {
+		ByteBuffer buffer = ByteBuffer.wrap(new byte[] { 1, 2, 3 });
+
+		try (ByteBufferInputStream stream = new ByteBufferInputStream(buffer)) {
+			stream.readAllBytes();
+		}
+
+		assertThat(buffer.position()).isZero();
+	}
+
+}
@@ -0,0 +1,87 @@
+/*
+ * Copyright 2016-2023 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v2.0 which
+ * accompanies this distribution and is available at
+ *
+ * http://www.eclipse.org/legal/epl-v20.html
+ */
+
+package org.junitpioneer.jupiter.json;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.junit.platform.commons.PreconditionViolationException;
+
+@DisplayName("DataPath")
+class DataPathTests {
+
+	@Test
+	@DisplayName("treats null and the empty string as the root")
+	void root() {
+		assertThat(DataPath.parse(null)).isSameAs(DataPath.ROOT);
+		assertThat(DataPath.parse("")).isSameAs(DataPath.ROOT);
+		assertThat(DataPath.ROOT.isRoot()).isTrue();
+	}
+
+	@Test
+	@DisplayName("parses a single field name")
+	void singleField() {
+		DataPath path = DataPath.parse("vehicles");
+
+		assertThat(path.steps()).hasSize(1);
+		assertThat(path.steps().get(0).field()).isEqualTo("vehicles");
+		assertThat(path.hasWildcard()).isFalse();
+	}
+
+	@Test
+	@DisplayName("parses nested fields with array selectors")
+	void nestedFieldsWithSelectors() {
+		DataPath path = DataPath.parse("cases.regression[*].steps[2]");
+
+		assertThat(path.steps()).hasSize(5);
+		assertThat(path.steps().get(2).isWildcard()).isTrue();
+		assertThat(path.steps().get(4).selectsElement(2)).isTrue();
+		assertThat(path.steps().get(4).selectsElement(1)).isFalse();
+		assertThat(path.hasWildcard()).isTrue();
+		assertThat(path).hasToString("cases.regression[*].steps[2]");
+	}
+
+	@Test
+	@DisplayName("parses a leading array selector")
+	void leadingSelector() {
+		DataPath path = DataPath.parse("[0].cases");
+
+		assertThat(path.steps()).hasSize(2);
+		assertThat(path.steps().get(0).isField()).isFalse();
+		assertThat(path.steps().get(1).field()).isEqualTo("cases");
+	}
+
+	@Test
+	@DisplayName("parses escaped characters as part of field names")
+	void escapedCharacters() {
+		DataPath path = DataPath.parse("versions.v1\\.2\\[beta\\][0]");
+
+		assertThat(path.steps()).hasSize(3);
+		assertThat(path.steps().get(1).field()).isEqualTo("v1.2[beta]");
+		assertThat(path.steps().get(2).selectsElement(0)).isTrue();
+		assertThat(DataPath.parse("back\\\\slash").steps().get(0).field()).isEqualTo("back\\slash");
+	}
+
+	@ParameterizedTest
+	@ValueSource(strings = { ".cases", "cases.", "cases..regression", "cases[", "cases[x]", "cases[-1]",
+			"cases[0]steps", "cases.[0]", "cases\\" })
+	@DisplayName("rejects invalid paths")
+	void invalidPaths(String expression) {
+		assertThatThrownBy(() -> DataPath.parse(expression))
+				.isInstanceOf(PreconditionViolationException.class)
+				.hasMessage("Invalid data path: " + expression);
+	}
+
+}
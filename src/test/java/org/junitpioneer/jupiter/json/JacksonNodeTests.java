@@ -0,0 +1,96 @@
+/*
+ * Copyright 2016-2023 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v2.0 which
+ * accompanies this distribution and is available at
+ *
+ * http://www.eclipse.org/legal/epl-v20.html
+ */
+
+package org.junitpioneer.jupiter.json;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.List;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.BigIntegerNode;
+import com.fasterxml.jackson.databind.node.DecimalNode;
+import com.fasterxml.jackson.databind.node.FloatNode;
+import com.fasterxml.jackson.databind.node.ShortNode;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("JacksonNode")
+class JacksonNodeTests {
+
+	private final ObjectMapper objectMapper = new ObjectMapper();
+
+	@Test
+	@DisplayName("extracts scalar values with their natural types")
+	void scalarValues() throws Exception {
+		JacksonNode node = node("{ \"text\": \"Yoda\", \"int\": 66, \"long\": 8589934592, \"double\": 4.5, "
+				+ "\"boolean\": true, \"null\": null }");
+
+		assertThat(node.value("text", String.class)).isEqualTo("Yoda");
+		assertThat(node.value("int", int.class)).isEqualTo(66);
+		assertThat(node.value("long", long.class)).isEqualTo(8589934592L);
+		assertThat(node.value("double", double.class)).isEqualTo(4.5);
+		assertThat(node.value("boolean", boolean.class)).isEqualTo(true);
+		assertThat(node.value("null", Object.class)).isInstanceOf(JsonNode.class);
+		assertThat(node.value("missing", Object.class)).isNull();
+	}
+
+	@Test
+	@DisplayName("extracts numbers of less common types as their boxed types")
+	void otherNumbers() {
+		assertThat(new JacksonNode(objectMapper, ShortNode.valueOf((short) 3)).value(short.class)).isEqualTo((short) 3);
+		assertThat(new JacksonNode(objectMapper, FloatNode.valueOf(1.5f)).value(float.class)).isEqualTo(1.5f);
+		assertThat(new JacksonNode(objectMapper, DecimalNode.valueOf(BigDecimal.TEN)).value(BigDecimal.class))
+				.isEqualTo(BigDecimal.TEN);
+		assertThat(new JacksonNode(objectMapper, BigIntegerNode.valueOf(BigInteger.ONE)).value(Object.class))
+				.isEqualTo(BigInteger.ONE);
+	}
+
+	@Test
+	@DisplayName("converts objects and arrays to the requested type")
+	void structuredValues() throws Exception {
+		JacksonNode node = node("{ \"heights\": [ 172, 66 ], \"location\": { \"name\": \"Dagobah\" } }");
+
+		assertThat(node.value("heights", List.class)).isEqualTo(List.of(172, 66));
+		assertThat(node.value("location", Location.class)).extracting("name").isEqualTo("Dagobah");
+	}
+
+	@Test
+	@DisplayName("extracts the same value by name as via the nested node")
+	void valueByNameMatchesNestedNode() throws Exception {
+		JacksonNode node = node("{ \"name\": \"Luke\", \"height\": 172 }");
+
+		assertThat(node.value("name", String.class)).isEqualTo(node.getNode("name").get().value(String.class));
+		assertThat(node.value("height", int.class)).isEqualTo(node.getNode("height").get().value(int.class));
+	}
+
+	private JacksonNode node(String json) throws Exception {
+		return new JacksonNode(objectMapper, objectMapper.readTree(json));
+	}
+
+	static class Location {
+
+		private String name;
+
+		public String getName() {
+			return name;
+		}
+
+		public void setName(String name) {
+			this.name = name;
+		}
+
+	}
+
+}
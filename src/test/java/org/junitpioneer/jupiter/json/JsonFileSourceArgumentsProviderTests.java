@@ -16,14 +16,29 @@ import static java.util.stream.Collectors.toList;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.tuple;
 import static org.junitpioneer.testkit.assertion.PioneerAssert.assertThat;
-
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
 
 import org.junit.jupiter.api.Disabled;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtensionContext;
+import org.junit.jupiter.api.extension.ExtensionContext.Store;
+import org.junit.jupiter.api.io.TempDir;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.platform.commons.PreconditionViolationException;
 import org.junit.platform.engine.TestDescriptor;
@@ -32,6 +47,7 @@ import org.junit.platform.testkit.engine.Event;
 import org.junitpioneer.jupiter.cartesian.CartesianTest;
 import org.junitpioneer.testkit.ExecutionResults;
 import org.junitpioneer.testkit.PioneerTestKit;
+import org.mockito.ArgumentMatchers;
 
 /**
  * Tests for {@link JsonFileSourceArgumentsProvider}
@@ -42,6 +58,7 @@ class JsonFileSourceArgumentsProviderTests {
 	private static final String JEDIS = TEST_RESOURCE_FOLDER + "jedis.json";
 	private static final String YODA = TEST_RESOURCE_FOLDER + "yoda.json";
 	private static final String LUKE = TEST_RESOURCE_FOLDER + "luke.json";
+	private static final String ARCHIVE = TEST_RESOURCE_FOLDER + "archive.json";
 
 	@Test
 	void assertAllValuesSupplied() {
@@ -56,13 +73,25 @@ class JsonFileSourceArgumentsProviderTests {
 		assertThat(displayNames)
 				.containsOnlyKeys("singleObject", "singleObjectAttribute", "deconstructObjectsFromArray",
 					"customDataLocation", "deconstructObjectsFromMultipleFiles",
-					"deconstructObjectsFromMultipleFilesIntoComplexType");
+					"deconstructObjectsFromMultipleFilesIntoComplexType", "globPattern", "fileNameWithGlobCharacters",
+					"parallelLoading", "nestedDataPath", "indexedDataPath");
 
 		assertThat(displayNames.get("singleObject"))
 				.containsExactly("[1] Jedi {name='Luke', height=172}", "[2] Jedi {name='Yoda', height=66}");
 
 		assertThat(displayNames.get("singleObjectAttribute")).containsExactly("[1] \"Luke\"", "[2] \"Yoda\"");
 
+		assertThat(displayNames.get("globPattern")).containsExactly("[1] \"Luke\"", "[2] \"Yoda\"");
+
+		assertThat(displayNames.get("fileNameWithGlobCharacters")).containsExactly("[1] \"Yoda\"");
+
+		assertThat(displayNames.get("parallelLoading"))
+				.containsExactly("[1] \"Yoda\"", "[2] \"Luke\"", "[3] \"Luke\"", "[4] \"Yoda\"");
+
+		assertThat(displayNames.get("nestedDataPath")).containsExactly("[1] \"Luke\", 172", "[2] \"Yoda\", 66");
+
+		assertThat(displayNames.get("indexedDataPath")).containsExactly("[1] \"Yoda\"");
+
 		assertThat(displayNames.get("deconstructObjectsFromArray"))
 				.containsExactly("[1] \"Luke\", 172", "[2] \"Yoda\", 66");
 
@@ -162,6 +191,36 @@ class JsonFileSourceArgumentsProviderTests {
 					.containsAnyOf(tuple("Luke", "Tatooine"), tuple("Yoda", "unknown"));
 		}
 
+		@ParameterizedTest
+		@JsonFileSource("glob:" + TEST_RESOURCE_FOLDER + "{yoda,luke}.json")
+		void globPattern(@Property("name") String name) {
+			assertThat(name).isIn("Luke", "Yoda");
+		}
+
+		@ParameterizedTest
+		@JsonFileSource(TEST_RESOURCE_FOLDER + "yoda[copy].json")
+		void fileNameWithGlobCharacters(@Property("name") String name) {
+			assertThat(name).isEqualTo("Yoda");
+		}
+
+		@ParameterizedTest
+		@JsonFileSource(value = { YODA, LUKE, JEDIS }, parallel = true)
+		void parallelLoading(@Property("name") String name) {
+			assertThat(name).isIn("Luke", "Yoda");
+		}
+
+		@ParameterizedTest
+		@JsonFileSource(value = ARCHIVE, data = "records.masters[*]")
+		void nestedDataPath(@Property("name") String name, @Property("height") int height) {
+			assertThat(Set.of(tuple(name, height))).containsAnyOf(tuple("Luke", 172), tuple("Yoda", 66));
+		}
+
+		@ParameterizedTest
+		@JsonFileSource(value = ARCHIVE, data = "records.masters[1]")
+		void indexedDataPath(@Property("name") String name) {
+			assertThat(name).isEqualTo("Yoda");
+		}
+
 	}
 
 	@Nested
@@ -202,6 +261,101 @@ class JsonFileSourceArgumentsProviderTests {
 
 	}
 
+	@Nested
+	class CachedJsonSourceTests {
+
+		@TempDir
+		Path tempDir;
+
+		@Test
+		void unchangedFileIsParsedOnceAndChangedFileAgain() throws IOException {
+			Path file = Files.writeString(tempDir.resolve("jedi.json"), "{ \"name\": \"Luke\" }");
+			CountingJsonConverter converter = new CountingJsonConverter();
+			// all lookups share this context, so they happen in the same test run
+			ExtensionContext context = cachingContext();
+
+			assertThat(names(file, context, converter)).containsExactly("Luke");
+			assertThat(names(file, context, converter)).containsExactly("Luke");
+			assertThat(converter.parsedDocuments).hasValue(1);
+
+			// a different length guarantees a different cache key, even if the modification time doesn't change
+			Files.writeString(file, "{ \"name\": \"Obi-Wan\" }");
+			assertThat(names(file, context, converter)).containsExactly("Obi-Wan");
+			assertThat(converter.parsedDocuments).hasValue(2);
+		}
+
+		private List<Object> names(Path file, ExtensionContext context, JsonConverter converter) {
+			JsonFileSourceArgumentsProvider provider = new JsonFileSourceArgumentsProvider();
+			provider.accept(List.of(JsonFileSourceArgumentsProvider.fileResource(file.toString())), "name");
+			return provider.provideNodes(context, converter).map(node -> node.value(String.class)).collect(toList());
+		}
+
+		private ExtensionContext cachingContext() {
+			ExtensionContext context = mock(ExtensionContext.class);
+			when(context.getConfigurationParameter(eq(AbstractJsonSourceBasedArgumentsProvider.CACHE_CONFIG_PARAM),
+				ArgumentMatchers.<Function<String, Boolean>> any())).thenReturn(Optional.of(true));
+			when(context.getRoot()).thenReturn(context);
+			Store store = mock(Store.class);
+			when(context.getStore(any())).thenReturn(store);
+			Map<Object, Node> parsedNodes = new ConcurrentHashMap<>();
+			when(store.computeIfAbsent(any(), any(), eq(Map.class))).thenReturn(parsedNodes);
+			return context;
+		}
+
+	}
+
+	static class CountingJsonConverter implements JsonConverter {
+
+		private final JsonConverter converter = JsonConverterProvider.getJsonConverter("default");
+		final AtomicInteger parsedDocuments = new AtomicInteger();
+
+		@Override
+		public Node toNode(InputStream stream) {
+			parsedDocuments.incrementAndGet();
+			return converter.toNode(stream);
+		}
+
+		@Override
+		public List<Node> toNodes(InputStream stream, DataPath path) {
+			parsedDocuments.incrementAndGet();
+			return converter.toNodes(stream, path);
+		}
+
+		@Override
+		public Node toNode(String value, boolean lenient) {
+			return converter.toNode(value, lenient);
+		}
+
+	}
+
+	@Nested
+	class MemoryMappingTests {
+
+		@TempDir
+		Path tempDir;
+
+		@Test
+		void filesAboveThresholdAreMapped() throws IOException {
+			Path file = Files.writeString(tempDir.resolve("luke.json"), "{ \"name\": \"Luke\" }");
+
+			try (InputStream stream = JsonFileSourceArgumentsProvider.open(file, 0)) {
+				assertThat(stream).isInstanceOf(ByteBufferInputStream.class);
+				assertThat(stream).hasContent("{ \"name\": \"Luke\" }");
+			}
+		}
+
+		@Test
+		void filesBelowThresholdAreStreamed() throws IOException {
+			Path file = Files.writeString(tempDir.resolve("luke.json"), "{ \"name\": \"Luke\" }");
+
+			try (InputStream stream = JsonFileSourceArgumentsProvider.open(file, Long.MAX_VALUE)) {
+				assertThat(stream).isNotInstanceOf(ByteBufferInputStream.class);
+				assertThat(stream).hasContent("{ \"name\": \"Luke\" }");
+			}
+		}
+
+	}
+
 	@Nested
 	class InvalidJsonSourceTests {
 
@@ -237,6 +391,17 @@ class JsonFileSourceArgumentsProviderTests {
 					.hasMessageStartingWith("File does not exist: ");
 		}
 
+		@Test
+		void noFileMatchesPattern() {
+			ExecutionResults results = PioneerTestKit
+					.executeTestMethod(InvalidJsonSourceTestCases.class, "noFileMatchesPattern");
+
+			assertThat(results)
+					.hasSingleFailedContainer()
+					.withExceptionInstanceOf(PreconditionViolationException.class)
+					.hasMessage("No files match the pattern: glob:" + TEST_RESOURCE_FOLDER + "sith-*.json");
+		}
+
 		@Test
 		void dataLocationMissing() {
 			ExecutionResults results = PioneerTestKit
@@ -248,6 +413,17 @@ class JsonFileSourceArgumentsProviderTests {
 					.hasMessageContainingAll("Node ", "does not have data element at dummy");
 		}
 
+		@Test
+		void invalidDataPath() {
+			ExecutionResults results = PioneerTestKit
+					.executeTestMethod(InvalidJsonSourceTestCases.class, "invalidDataPath");
+
+			assertThat(results)
+					.hasSingleFailedContainer()
+					.withExceptionInstanceOf(PreconditionViolationException.class)
+					.hasMessage("Invalid data path: records..masters");
+		}
+
 	}
 
 	static class InvalidJsonSourceTestCases {
@@ -270,12 +446,24 @@ class JsonFileSourceArgumentsProviderTests {
 
 		}
 
+		@JsonFileSource("glob:" + TEST_RESOURCE_FOLDER + "sith-*.json")
+		@ParameterizedTest
+		void noFileMatchesPattern() {
+
+		}
+
 		@JsonFileSource(value = { YODA }, data = "dummy")
 		@ParameterizedTest
 		void dataLocationMissing() {
 
 		}
 
+		@JsonFileSource(value = { ARCHIVE }, data = "records..masters")
+		@ParameterizedTest
+		void invalidDataPath() {
+
+		}
+
 	}
 
 	// This class uses the Java Bean convention since the creation of the object is done by the Json Parsing library
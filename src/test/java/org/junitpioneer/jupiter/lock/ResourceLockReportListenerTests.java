@@ -0,0 +1,142 @@
+/*
+ * Copyright 2016-2023 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v2.0 which
+ * accompanies this distribution and is available at
+ *
+ * http://www.eclipse.org/legal/epl-v20.html
+ */
+
+package org.junitpioneer.jupiter.lock;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.junit.platform.engine.discovery.DiscoverySelectors;
+import org.junit.platform.launcher.core.LauncherConfig;
+import org.junit.platform.launcher.core.LauncherDiscoveryRequestBuilder;
+import org.junit.platform.launcher.core.LauncherExecutionRequestBuilder;
+import org.junit.platform.launcher.core.LauncherFactory;
+import org.junitpioneer.jupiter.ReadsDefaultLocale;
+import org.junitpioneer.jupiter.WritesSystemProperty;
+
+@DisplayName("ResourceLockReportListener")
+class ResourceLockReportListenerTests {
+
+	@TempDir
+	Path tempDir;
+
+	@Test
+	@DisplayName("reports nothing if not activated")
+	void inactiveByDefault() {
+		execute(new ResourceLockReportListener(), LauncherDiscoveryRequestBuilder.request(), LockingTestCases.class);
+
+		assertThat(tempDir).isEmptyDirectory();
+	}
+
+	@Test
+	@DisplayName("writes the report to the configured file, creating its directory if necessary")
+	void writesReportFile() {
+		Path reportFile = tempDir.resolve("reports").resolve("locks.txt");
+
+		executeWithListener(reportFile, LockingTestCases.class);
+
+		assertThat(reportFile).content().startsWith("[junit-pioneer] Time spent holding resource locks:");
+	}
+
+	@Test
+	@DisplayName("reports the time spent holding each lock")
+	void reportsLocks() throws IOException {
+		String report = executeWithListener(LockingTestCases.class);
+
+		assertThat(report)
+				.contains("java.lang.System.properties: READ_WRITE for ")
+				.contains("by 2 tests/containers")
+				.contains("java.util.Locale.default: READ for ")
+				.doesNotContain("java.util.TimeZone.default");
+	}
+
+	@Test
+	@DisplayName("lists the tests that held locks exclusively by class")
+	void reportsClasses() throws IOException {
+		String report = executeWithListener(LockingTestCases.class, LockingClassTestCases.class);
+
+		assertThat(report)
+				.contains(LockingTestCases.class.getName() + ": ")
+				.contains("writing() [java.lang.System.properties]: ")
+				.contains("parameterizedWriting(int) [java.lang.System.properties]: ")
+				.contains(LockingClassTestCases.class.getSimpleName() + " [java.lang.System.properties]: ")
+				.doesNotContain("reading()")
+				.doesNotContain("notLocking()");
+		// the class that holds the lock during a long test comes first
+		assertThat(report.indexOf(LockingClassTestCases.class.getName()))
+				.isLessThan(report.indexOf(LockingTestCases.class.getName()));
+	}
+
+	private String executeWithListener(Class<?>... testClasses) throws IOException {
+		Path reportFile = tempDir.resolve("report.txt");
+		executeWithListener(reportFile, testClasses);
+		return Files.readString(reportFile);
+	}
+
+	private static void executeWithListener(Path reportFile, Class<?>... testClasses) {
+		var discoveryRequest = LauncherDiscoveryRequestBuilder
+				.request()
+				.configurationParameter(ResourceLockReportListener.REPORT_CONFIG_PARAM, reportFile.toString());
+		execute(new ResourceLockReportListener(), discoveryRequest, testClasses);
+	}
+
+	private static void execute(ResourceLockReportListener listener, LauncherDiscoveryRequestBuilder discoveryRequest,
+			Class<?>... testClasses) {
+		discoveryRequest.selectors(DiscoverySelectors.selectClasses(testClasses));
+		// prevent the listener registered via service loader from writing a report as well
+		var config = LauncherConfig.builder().enableTestExecutionListenerAutoRegistration(false).build();
+		LauncherFactory
+				.create(config)
+				.execute(LauncherExecutionRequestBuilder.request(discoveryRequest.build()).listeners(listener).build());
+	}
+
+	static class LockingTestCases {
+
+		@Test
+		@WritesSystemProperty
+		void writing() {
+		}
+
+		@ParameterizedTest
+		@ValueSource(ints = { 1, 2, 3 })
+		@WritesSystemProperty
+		void parameterizedWriting(int value) {
+		}
+
+		@Test
+		@ReadsDefaultLocale
+		void reading() {
+		}
+
+		@Test
+		void notLocking() {
+		}
+
+	}
+
+	@WritesSystemProperty
+	static class LockingClassTestCases {
+
+		@Test
+		void slow() throws InterruptedException {
+			Thread.sleep(100);
+		}
+
+	}
+
+}
@@ -0,0 +1,83 @@
+/*
+ * Copyright 2016-2023 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v2.0 which
+ * accompanies this distribution and is available at
+ *
+ * http://www.eclipse.org/legal/epl-v20.html
+ */
+
+package org.junitpioneer.jupiter.resource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+
+import java.io.IOException;
+import java.nio.file.FileSystem;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import com.google.common.jimfs.Configuration;
+import com.google.common.jimfs.Jimfs;
+
+import org.junit.jupiter.api.Test;
+
+class ParallelPathDeleterTests {
+
+	@Test
+	void deletesFile() throws IOException {
+		try (FileSystem fileSystem = Jimfs.newFileSystem(Configuration.unix())) {
+			Path file = fileSystem.getPath("file.txt");
+			Files.createFile(file);
+
+			ParallelPathDeleter.delete(file);
+
+			assertThat(file).doesNotExist();
+		}
+	}
+
+	@Test
+	void deletesDirectoryTree() throws IOException {
+		try (FileSystem fileSystem = Jimfs.newFileSystem(Configuration.unix())) {
+			Path dir = fileSystem.getPath("dir");
+			for (int i = 0; i < 10; i++) {
+				Path subdir = dir.resolve("sub-" + i).resolve("sub");
+				Files.createDirectories(subdir);
+				Files.createFile(subdir.resolve("file.txt"));
+				Files.createFile(dir.resolve("file-" + i + ".txt"));
+			}
+
+			ParallelPathDeleter.delete(dir);
+
+			assertThat(dir).doesNotExist();
+		}
+	}
+
+	@Test
+	void doesNotFollowSymbolicLinks() throws IOException {
+		try (FileSystem fileSystem = Jimfs.newFileSystem(Configuration.unix())) {
+			Path target = fileSystem.getPath("target");
+			Path file = target.resolve("file.txt");
+			Files.createDirectories(target);
+			Files.createFile(file);
+			Path dir = fileSystem.getPath("dir");
+			Files.createDirectories(dir);
+			Files.createSymbolicLink(dir.resolve("link"), target.toAbsolutePath());
+
+			ParallelPathDeleter.delete(dir);
+
+			assertThat(dir).doesNotExist();
+			assertThat(file).exists();
+		}
+	}
+
+	@Test
+	void deletingNonExistentPathProducesNoIOException() throws IOException {
+		try (FileSystem fileSystem = Jimfs.newFileSystem(Configuration.unix())) {
+			assertThatCode(() -> ParallelPathDeleter.delete(fileSystem.getPath("some", "arbitrary", "directory")))
+					.doesNotThrowAnyException();
+		}
+	}
+
+}
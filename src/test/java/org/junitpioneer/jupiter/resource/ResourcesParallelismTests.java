@@ -14,6 +14,8 @@ import static java.util.Arrays.asList;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertTimeoutPreemptively;
 import static org.junit.jupiter.api.parallel.ExecutionMode.SAME_THREAD;
+import static org.junit.jupiter.api.parallel.ResourceAccessMode.READ;
+import static org.junit.jupiter.api.parallel.ResourceAccessMode.READ_WRITE;
 import static org.junitpioneer.jupiter.resource.Shared.Scope.GLOBAL;
 import static org.junitpioneer.testkit.assertion.PioneerAssert.assertThat;
 
@@ -21,6 +23,12 @@ import java.io.PrintWriter;
 import java.io.StringWriter;
 import java.nio.file.Path;
 import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.stream.Stream;
 
@@ -35,6 +43,7 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.TestFactory;
 import org.junit.jupiter.api.TestInfo;
 import org.junit.jupiter.api.TestInstance;
+import org.junit.jupiter.api.extension.ParameterResolutionException;
 import org.junit.jupiter.api.parallel.Execution;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.ValueSource;
@@ -125,6 +134,34 @@ class ResourcesParallelismTests {
 			assertThat(executionResults).hasNumberOfSucceededTests(3);
 		}
 
+		@DisplayName("then tests that only read a resource do not run in parallel with tests that write to it")
+		@Execution(SAME_THREAD)
+		@Test
+		void thenReadersDoNotRunInParallelWithWriters() {
+			ExecutionResults executionResults = assertTimeoutPreemptively(Duration.ofSeconds(15),
+				() -> PioneerTestKit.executeTestClass(ThrowIfReadersRunInParallelWithWritersTestCases.class),
+				"The tests in ThrowIfReadersRunInParallelWithWritersTestCases became deadlocked!");
+			assertThat(executionResults).hasNumberOfSucceededTests(5);
+		}
+
+		@DisplayName("then tests that only read a resource run in parallel with each other")
+		@Execution(SAME_THREAD)
+		@Test
+		void thenReadersRunInParallel() {
+			// make sure there are enough threads for all readers, regardless of the number of cores
+			Map<String, String> configuration = Map
+					.of("junit.jupiter.execution.parallel.enabled", "true",
+						"junit.jupiter.execution.parallel.mode.default", "concurrent",
+						"junit.jupiter.execution.parallel.config.strategy", "fixed",
+						"junit.jupiter.execution.parallel.config.fixed.parallelism", String.valueOf(READERS_IN_PARALLEL));
+			ExecutionResults executionResults = assertTimeoutPreemptively(Duration.ofSeconds(15),
+				() -> PioneerTestKit
+						.executeTestClassWithConfigurationParameters(configuration,
+							FailIfReadersDoNotRunInParallelTestCases.class),
+				"The tests in FailIfReadersDoNotRunInParallelTestCases became deadlocked!");
+			assertThat(executionResults).hasNumberOfSucceededTests(READERS_IN_PARALLEL);
+		}
+
 		@DisplayName("then the @AfterAll methods do not run in parallel")
 		@Execution(SAME_THREAD)
 		@Test
@@ -137,6 +174,56 @@ class ResourcesParallelismTests {
 
 	}
 
+	@DisplayName("when shared resources are resolved in parallel")
+	@Nested
+	class WhenSharedResourcesAreResolvedInParallelTests {
+
+		@DisplayName("then a slow factory does not block resolving a resource with a different name")
+		@Execution(SAME_THREAD)
+		@Test
+		void thenSlowFactoryDoesNotBlockResolvingDifferentName() {
+			ExecutionResults executionResults = assertTimeoutPreemptively(Duration.ofSeconds(15),
+				() -> PioneerTestKit
+						.executeTestClassWithConfigurationParameters(parallelConfiguration(2),
+							FailIfResolvingDifferentNamesIsBlockedTestCases.class),
+				"The tests in FailIfResolvingDifferentNamesIsBlockedTestCases became deadlocked!");
+			assertThat(executionResults).hasNumberOfSucceededTests(2);
+		}
+
+		@DisplayName("then resources with the same name but different factories are still detected")
+		@Execution(SAME_THREAD)
+		@Test
+		void thenSameNameWithDifferentFactoriesIsDetected() {
+			CONTENDED_RESOURCES_CREATED.set(0);
+			ExecutionResults executionResults = assertTimeoutPreemptively(Duration.ofSeconds(15),
+				() -> PioneerTestKit
+						.executeTestClassWithConfigurationParameters(parallelConfiguration(CONTENDING_TESTS),
+							ContendForSameNameWithDifferentFactoriesTestCases.class),
+				"The tests in ContendForSameNameWithDifferentFactoriesTestCases became deadlocked!");
+			// whichever factory comes first, the tests with the other one fail
+			assertThat(executionResults).hasNumberOfSucceededTests(CONTENDING_TESTS / 2);
+			assertThat(executionResults)
+					.hasNumberOfFailedTests(CONTENDING_TESTS / 2)
+					.andThenCheckExceptions(exceptions -> assertThat(exceptions)
+							.allSatisfy(exception -> assertThat(exception)
+									.isInstanceOf(ParameterResolutionException.class)
+									.hasMessage("Two or more parameters are annotated with @Shared annotations with "
+											+ "the name \"" + SHARED_RESOURCE_E_NAME
+											+ "\" but with different factory classes")));
+			assertThat(CONTENDED_RESOURCES_CREATED.get()).isEqualTo(1);
+		}
+
+		// make sure there are enough threads for all tests, regardless of the number of cores
+		private Map<String, String> parallelConfiguration(int parallelism) {
+			return Map
+					.of("junit.jupiter.execution.parallel.enabled", "true",
+						"junit.jupiter.execution.parallel.mode.default", "concurrent",
+						"junit.jupiter.execution.parallel.config.strategy", "fixed",
+						"junit.jupiter.execution.parallel.config.fixed.parallelism", String.valueOf(parallelism));
+		}
+
+	}
+
 	private static final AtomicInteger COUNTER = new AtomicInteger(0);
 	private static final int TIMEOUT_MILLIS = 20;
 	private static final String SHARED_RESOURCE_A_NAME = "shared-resource-a";
@@ -484,6 +571,220 @@ class ResourcesParallelismTests {
 
 	}
 
+	private static final AtomicInteger READERS = new AtomicInteger(0);
+	private static final AtomicBoolean WRITING = new AtomicBoolean(false);
+	private static final String SHARED_RESOURCE_D_NAME = "shared-resource-d";
+
+	static class ThrowIfReadersRunInParallelWithWritersTestCases {
+
+		@Test
+		@SuppressWarnings("unused")
+		void reader1(
+				@Shared(factory = TemporaryDirectory.class, name = SHARED_RESOURCE_D_NAME, access = READ) Path directory)
+				throws Exception {
+			failIfWrittenWhileReading();
+		}
+
+		@Test
+		@SuppressWarnings("unused")
+		void reader2(
+				@Shared(factory = TemporaryDirectory.class, name = SHARED_RESOURCE_D_NAME, access = READ) Path directory)
+				throws Exception {
+			failIfWrittenWhileReading();
+		}
+
+		@Test
+		@SuppressWarnings("unused")
+		void reader3(
+				@Shared(factory = TemporaryDirectory.class, name = SHARED_RESOURCE_D_NAME, access = READ) Path directory)
+				throws Exception {
+			failIfWrittenWhileReading();
+		}
+
+		@Test
+		@SuppressWarnings("unused")
+		void writer1(
+				@Shared(factory = TemporaryDirectory.class, name = SHARED_RESOURCE_D_NAME) Path directory)
+				throws Exception {
+			failIfReadWhileWriting();
+		}
+
+		@Test
+		@SuppressWarnings("unused")
+		void writer2(
+				@Shared(factory = TemporaryDirectory.class, name = SHARED_RESOURCE_D_NAME, access = READ_WRITE) Path directory)
+				throws Exception {
+			failIfReadWhileWriting();
+		}
+
+	}
+
+	private static final int READERS_IN_PARALLEL = 3;
+	private static final CyclicBarrier READERS_BARRIER = new CyclicBarrier(READERS_IN_PARALLEL);
+
+	static class FailIfReadersDoNotRunInParallelTestCases {
+
+		@Test
+		@SuppressWarnings("unused")
+		void reader1(
+				@Shared(factory = TemporaryDirectory.class, name = SHARED_RESOURCE_D_NAME, access = READ) Path directory)
+				throws Exception {
+			failIfNotReadInParallel();
+		}
+
+		@Test
+		@SuppressWarnings("unused")
+		void reader2(
+				@Shared(factory = TemporaryDirectory.class, name = SHARED_RESOURCE_D_NAME, access = READ) Path directory)
+				throws Exception {
+			failIfNotReadInParallel();
+		}
+
+		@Test
+		@SuppressWarnings("unused")
+		void reader3(
+				@Shared(factory = TemporaryDirectory.class, name = SHARED_RESOURCE_D_NAME, access = READ) Path directory)
+				throws Exception {
+			failIfNotReadInParallel();
+		}
+
+	}
+
+	private static final CountDownLatch SLOW_FACTORY_CREATING = new CountDownLatch(1);
+	private static final CountDownLatch FAST_RESOURCE_CREATED = new CountDownLatch(1);
+
+	static class FailIfResolvingDifferentNamesIsBlockedTestCases {
+
+		@Test
+		@SuppressWarnings("unused")
+		void slow(@Shared(factory = SlowResourceFactory.class, name = "slow-resource") String resource) {
+		}
+
+		@Test
+		@SuppressWarnings("unused")
+		void fast(@Shared(factory = FastResourceFactory.class, name = "fast-resource") String resource) {
+		}
+
+	}
+
+	// only creates its resource once the other factory created one,
+	// which it can't do if resolving this resource blocks resolving all others
+	static final class SlowResourceFactory implements ResourceFactory<String> {
+
+		@Override
+		public Resource<String> create(List<String> arguments) throws Exception {
+			SLOW_FACTORY_CREATING.countDown();
+			if (!FAST_RESOURCE_CREATED.await(5, TimeUnit.SECONDS))
+				throw new IllegalStateException("The fast resource wasn't created while the slow one was");
+			return () -> "slow";
+		}
+
+	}
+
+	static final class FastResourceFactory implements ResourceFactory<String> {
+
+		@Override
+		public Resource<String> create(List<String> arguments) throws Exception {
+			// wait for the slow factory, so both resources are resolved at the same time
+			if (!SLOW_FACTORY_CREATING.await(5, TimeUnit.SECONDS))
+				throw new IllegalStateException("The slow factory never started creating its resource");
+			FAST_RESOURCE_CREATED.countDown();
+			return () -> "fast";
+		}
+
+	}
+
+	private static final int CONTENDING_TESTS = 4;
+	private static final CyclicBarrier CONTENDING_TESTS_BARRIER = new CyclicBarrier(CONTENDING_TESTS);
+	private static final AtomicInteger CONTENDED_RESOURCES_CREATED = new AtomicInteger(0);
+	private static final String SHARED_RESOURCE_E_NAME = "shared-resource-e";
+
+	static class ContendForSameNameWithDifferentFactoriesTestCases {
+
+		// all tests resolve their parameters at the same time
+		@BeforeEach
+		void lineUp() throws Exception {
+			CONTENDING_TESTS_BARRIER.await(5, TimeUnit.SECONDS);
+		}
+
+		@Test
+		@SuppressWarnings("unused")
+		void first1(
+				@Shared(factory = ContendedFactoryA.class, name = SHARED_RESOURCE_E_NAME) String resource) {
+		}
+
+		@Test
+		@SuppressWarnings("unused")
+		void first2(
+				@Shared(factory = ContendedFactoryA.class, name = SHARED_RESOURCE_E_NAME) String resource) {
+		}
+
+		@Test
+		@SuppressWarnings("unused")
+		void second1(
+				@Shared(factory = ContendedFactoryB.class, name = SHARED_RESOURCE_E_NAME) String resource) {
+		}
+
+		@Test
+		@SuppressWarnings("unused")
+		void second2(
+				@Shared(factory = ContendedFactoryB.class, name = SHARED_RESOURCE_E_NAME) String resource) {
+		}
+
+	}
+
+	static class ContendedFactoryA implements ResourceFactory<String> {
+
+		// a slow constructor widens the gap between checking for a factory and storing it
+		ContendedFactoryA() throws InterruptedException {
+			Thread.sleep(TIMEOUT_MILLIS);
+		}
+
+		@Override
+		public Resource<String> create(List<String> arguments) {
+			CONTENDED_RESOURCES_CREATED.incrementAndGet();
+			return () -> "first";
+		}
+
+	}
+
+	static final class ContendedFactoryB extends ContendedFactoryA {
+
+		ContendedFactoryB() throws InterruptedException {
+			super();
+		}
+
+	}
+
+	// all readers have to hold the resource at the same time to get past the barrier
+	private static void failIfNotReadInParallel() throws Exception {
+		READERS_BARRIER.await(5, TimeUnit.SECONDS);
+	}
+
+	private static void failIfWrittenWhileReading() throws InterruptedException {
+		READERS.incrementAndGet();
+		try {
+			assertThat(WRITING.get()).isFalse();
+			Thread.sleep(TIMEOUT_MILLIS);
+			assertThat(WRITING.get()).isFalse();
+		}
+		finally {
+			READERS.decrementAndGet();
+		}
+	}
+
+	private static void failIfReadWhileWriting() throws InterruptedException {
+		assertThat(WRITING.compareAndSet(false, true)).isTrue();
+		try {
+			assertThat(READERS.get()).isZero();
+			Thread.sleep(TIMEOUT_MILLIS);
+			assertThat(READERS.get()).isZero();
+		}
+		finally {
+			WRITING.set(false);
+		}
+	}
+
 	// this method is written to fail if it is executed at overlapping times in different threads
 	private static void failIfExecutedInParallel(String testName) throws InterruptedException {
 		try {
@@ -11,8 +11,10 @@
 package org.junitpioneer.jupiter.resource;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.assertj.core.api.Assertions.fail;
 import static org.junitpioneer.testkit.PioneerTestKit.executeTestClass;
+import static org.junitpioneer.testkit.PioneerTestKit.executeTestClassWithConfigurationParameters;
 import static org.junitpioneer.testkit.PioneerTestKit.executeTestClasses;
 import static org.junitpioneer.testkit.assertion.PioneerAssert.assertThat;
 
@@ -20,11 +22,21 @@ import java.io.IOException;
 import java.lang.reflect.Method;
 import java.net.UnknownHostException;
 import java.nio.file.FileAlreadyExistsException;
+import java.time.Duration;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
 
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.MethodOrderer;
 import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Order;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestMethodOrder;
+import org.junit.jupiter.api.extension.ExtensionConfigurationException;
 import org.junit.jupiter.api.extension.ParameterResolutionException;
 import org.junit.platform.commons.JUnitException;
 import org.junitpioneer.testkit.ExecutionResults;
@@ -856,4 +868,482 @@ class ResourcesTests {
 
 	}
 
+	// ---
+
+	@DisplayName("when shared resources are warmed up")
+	@Nested
+	class WhenSharedResourcesAreWarmedUpTests {
+
+		@DisplayName("then ::create is called once in the background")
+		@Test
+		void thenCreateIsCalledOnceInBackground() {
+			ExecutionResults results = executeTestClass(WarmUpTestCases.class);
+
+			assertThat(results).hasNumberOfSucceededTests(2);
+			assertThat(WarmUpResourceFactory.createThreads).containsExactly("junit-pioneer-resource-warm-up");
+		}
+
+		@DisplayName("and the factory throws on ::create")
+		@Nested
+		class AndFactoryThrowsOnCreateTests {
+
+			@DisplayName("then the thrown exception is wrapped and propagated")
+			@Test
+			void thenThrownExceptionIsWrappedAndPropagated() {
+				ExecutionResults results = executeTestClass(ThrowOnWarmUpTestCases.class);
+
+				assertThat(results)
+						.hasSingleFailedTest()
+						.withExceptionInstanceOf(ParameterResolutionException.class)
+						.hasMessage("Warming up the shared resource \"some-name\" failed")
+						.cause()
+						.isInstanceOf(ParameterResolutionException.class)
+						.hasMessage("Unable to create a resource from `"
+								+ ThrowOnRFCreateResourceFactory.class.getTypeName() + "`");
+			}
+
+		}
+
+	}
+
+	@WarmUpSharedResources
+	static class WarmUpTestCases {
+
+		@Test
+		@SuppressWarnings("unused")
+		void test_1(@Shared(factory = WarmUpResourceFactory.class, name = "warm-up") Object object) {
+
+		}
+
+		@Test
+		@SuppressWarnings("unused")
+		void test_2(@Shared(factory = WarmUpResourceFactory.class, name = "warm-up") Object object) {
+
+		}
+
+	}
+
+	static final class WarmUpResourceFactory implements ResourceFactory<Object> {
+
+		static final List<String> createThreads = new CopyOnWriteArrayList<>();
+
+		@Override
+		public Resource<Object> create(List<String> arguments) {
+			createThreads.add(Thread.currentThread().getName());
+			return () -> "some resource";
+		}
+
+	}
+
+	@WarmUpSharedResources
+	static class ThrowOnWarmUpTestCases {
+
+		@Test
+		@SuppressWarnings("unused")
+		void test(@Shared(factory = ThrowOnRFCreateResourceFactory.class, name = "some-name") Object object) {
+
+		}
+
+	}
+
+	// ---
+
+	@DisplayName("when a pooled resource factory is applied to parameters of multiple tests")
+	@Nested
+	class WhenPooledResourceFactoryAppliedToParametersOfMultipleTestsTests {
+
+		@DisplayName("then no more resources than the pool size are created and they are reset between tests")
+		@Test
+		void thenResourcesAreLimitedToPoolSizeAndReset() {
+			ExecutionResults results = executeTestClass(CountingPooledResourceFactoryTestCases.class);
+
+			assertThat(results).hasNumberOfSucceededTests(3);
+			assertThat(CountingPooledResourceFactory.createCalls.get()).isEqualTo(1);
+			assertThat(CountingPooledResourceFactory.resetCalls.get()).isEqualTo(3);
+			assertThat(CountingPooledResourceFactory.closeCalls.get()).isEqualTo(1);
+		}
+
+		@DisplayName("and the parameter is also annotated with @New")
+		@Nested
+		class AndParameterIsAlsoAnnotatedWithNewTests {
+
+			@DisplayName("then an exception is thrown")
+			@Test
+			void thenExceptionIsThrown() throws Exception {
+				ExecutionResults results = executeTestClass(PooledAndNewTestCases.class);
+
+				Method method = PooledAndNewTestCases.class.getDeclaredMethod("test", Object.class);
+				assertThat(results)
+						.hasSingleFailedTest()
+						.withExceptionInstanceOf(ParameterResolutionException.class)
+						.hasMessage("Parameter [%s] in method [%s] is annotated with @Pooled and @New or @Shared",
+							method.getParameters()[0], method);
+			}
+
+		}
+
+		@DisplayName("and the pool size is not positive")
+		@Nested
+		class AndPoolSizeIsNotPositiveTests {
+
+			@DisplayName("then an exception is thrown")
+			@Test
+			void thenExceptionIsThrown() {
+				ExecutionResults results = executeTestClass(EmptyPoolTestCases.class);
+
+				assertThat(results)
+						.hasSingleFailedTest()
+						.withExceptionInstanceOf(ParameterResolutionException.class)
+						.hasMessage("The pool \"empty\" must have a positive size, but has 0");
+			}
+
+		}
+
+		@DisplayName("and the test already borrowed from the pool")
+		@Nested
+		class AndTestAlreadyBorrowedFromPoolTests {
+
+			@DisplayName("then an exception is thrown instead of waiting for itself")
+			@Test
+			void thenExceptionIsThrown() {
+				ExecutionResults results = executeTestClass(BorrowingTwiceTestCases.class);
+
+				assertThat(results)
+						.hasSingleFailedTest()
+						.withExceptionInstanceOf(ParameterResolutionException.class)
+						.hasMessageStartingWith(
+							"This test already borrowed as many resources from the pool \"twice\" as it has (1)");
+			}
+
+		}
+
+		@DisplayName("and the test class already borrowed from a pool with spare resources")
+		@Nested
+		class AndTestClassAlreadyBorrowedFromPoolWithSpareResourcesTests {
+
+			@DisplayName("then the tests borrow the spare resources")
+			@Test
+			void thenTestsBorrowSpareResources() {
+				ExecutionResults results = executeTestClass(BorrowingInClassAndTestsTestCases.class);
+
+				assertThat(results).hasNumberOfSucceededTests(2);
+			}
+
+		}
+
+		@DisplayName("and no resource is given back in time")
+		@Nested
+		class AndNoResourceIsGivenBackInTimeTests {
+
+			@DisplayName("then an exception is thrown")
+			@Test
+			void thenExceptionIsThrown() throws Exception {
+				Pooled pooledAnnotation = BorrowingTwiceTestCases.class
+						.getDeclaredMethod("test", Object.class)
+						.getParameters()[0]
+						.getAnnotation(Pooled.class);
+				ResourcePool pool = new ResourcePool(pooledAnnotation, () -> () -> "dummy", Duration.ofMillis(50));
+
+				pool.borrow();
+				assertThatThrownBy(pool::borrow)
+						.isInstanceOf(ExtensionConfigurationException.class)
+						.hasMessageStartingWith("Timed out after 50 ms waiting for a resource from the pool \"twice\"");
+			}
+
+			@DisplayName("and the configured timeout is invalid")
+			@Nested
+			class AndConfiguredTimeoutIsInvalidTests {
+
+				@DisplayName("then an exception is thrown")
+				@Test
+				void thenExceptionIsThrown() {
+					ExecutionResults results = executeTestClassWithConfigurationParameters(
+						Map.of(ResourceExtension.POOL_TIMEOUT_CONFIG_PARAM, "soon"),
+						CountingPooledResourceFactoryTestCases.class);
+
+					assertThat(results)
+							.hasNumberOfFailedTests(3)
+							.andThenCheckExceptions(exceptions -> assertThat(exceptions)
+									.allSatisfy(exception -> assertThat(exception)
+											.hasRootCauseInstanceOf(ExtensionConfigurationException.class)
+											.hasRootCauseMessage("The configuration parameter "
+													+ ResourceExtension.POOL_TIMEOUT_CONFIG_PARAM
+													+ " must be a positive number of seconds, but was 'soon'")));
+				}
+
+			}
+
+		}
+
+	}
+
+	static class BorrowingTwiceTestCases {
+
+		@BeforeEach
+		@SuppressWarnings("unused")
+		void setUp(@Pooled(factory = DummyResourceFactory.class, name = "twice", size = 1) Object object) {
+
+		}
+
+		@Test
+		@SuppressWarnings("unused")
+		void test(@Pooled(factory = DummyResourceFactory.class, name = "twice", size = 1) Object object) {
+
+		}
+
+	}
+
+	static class BorrowingInClassAndTestsTestCases {
+
+		@BeforeAll
+		@SuppressWarnings("unused")
+		static void setUpClass(
+				@Pooled(factory = DummyResourceFactory.class, name = "spare", size = 2) Object object) {
+
+		}
+
+		@Test
+		@SuppressWarnings("unused")
+		void test_1(@Pooled(factory = DummyResourceFactory.class, name = "spare", size = 2) Object object) {
+
+		}
+
+		@Test
+		@SuppressWarnings("unused")
+		void test_2(@Pooled(factory = DummyResourceFactory.class, name = "spare", size = 2) Object object) {
+
+		}
+
+	}
+
+	static class CountingPooledResourceFactoryTestCases {
+
+		@Test
+		@SuppressWarnings("unused")
+		void test_1(@Pooled(factory = CountingPooledResourceFactory.class, name = "pool", size = 1) Object object) {
+
+		}
+
+		@Test
+		@SuppressWarnings("unused")
+		void test_2(@Pooled(factory = CountingPooledResourceFactory.class, name = "pool", size = 1) Object object) {
+
+		}
+
+		@Test
+		@SuppressWarnings("unused")
+		void test_3(@Pooled(factory = CountingPooledResourceFactory.class, name = "pool", size = 1) Object object) {
+
+		}
+
+	}
+
+	static final class CountingPooledResourceFactory implements ResourceFactory<Object> {
+
+		static final AtomicInteger createCalls = new AtomicInteger();
+		static final AtomicInteger resetCalls = new AtomicInteger();
+		static final AtomicInteger closeCalls = new AtomicInteger();
+
+		@Override
+		public Resource<Object> create(List<String> arguments) {
+			createCalls.incrementAndGet();
+			return new Resource<>() {
+
+				@Override
+				public Object get() {
+					return "some resource";
+				}
+
+				@Override
+				public void reset() {
+					resetCalls.incrementAndGet();
+				}
+
+				@Override
+				public void close() {
+					closeCalls.incrementAndGet();
+				}
+
+			};
+		}
+
+	}
+
+	static class PooledAndNewTestCases {
+
+		@Test
+		@SuppressWarnings("unused")
+		void test(@Pooled(factory = DummyResourceFactory.class, name = "pool", size = 1) @New(DummyResourceFactory.class) Object object) {
+
+		}
+
+	}
+
+	static class EmptyPoolTestCases {
+
+		@Test
+		@SuppressWarnings("unused")
+		void test(@Pooled(factory = DummyResourceFactory.class, name = "empty", size = 0) Object object) {
+
+		}
+
+	}
+
+	// ---
+
+	@DisplayName("when resources are cleaned up asynchronously")
+	@Nested
+	class WhenResourcesAreCleanedUpAsynchronouslyTests {
+
+		@DisplayName("then they are closed in the background before their factories and before the run ends")
+		@Test
+		void thenResourcesAreClosedInBackgroundBeforeFactories() {
+			AsyncCleanupResourceFactory.events.clear();
+			AsyncCleanupResourceFactory.closingThreads.clear();
+
+			ExecutionResults results = executeTestClassWithConfigurationParameters(
+				Map.of(ResourceCleaner.CLEANUP_CONFIG_PARAM, "async"), AsyncCleanupTestCases.class);
+
+			assertThat(results).hasNumberOfSucceededTests(2);
+			// resources are closed in parallel, so only the order of each resource and its factory is fixed
+			assertThat(AsyncCleanupResourceFactory.events)
+					.hasSize(4)
+					.containsSubsequence("new resource closed", "new factory closed")
+					.containsSubsequence("shared resource closed", "shared factory closed");
+			assertThat(AsyncCleanupResourceFactory.closingThreads)
+					.allSatisfy(thread -> assertThat(thread).startsWith("junit-pioneer-resource-cleaner"));
+		}
+
+		@DisplayName("and the configuration parameter is invalid")
+		@Nested
+		class AndConfigurationParameterIsInvalidTests {
+
+			@DisplayName("then an exception is thrown")
+			@Test
+			void thenExceptionIsThrown() {
+				ExecutionResults results = executeTestClassWithConfigurationParameters(
+					Map.of(ResourceCleaner.CLEANUP_CONFIG_PARAM, "later"), AsyncCleanupTestCases.class);
+
+				assertThat(results)
+						.hasNumberOfFailedTests(2)
+						.andThenCheckExceptions(exceptions -> assertThat(exceptions)
+								.allSatisfy(exception -> assertThat(exception)
+										.hasRootCauseInstanceOf(ExtensionConfigurationException.class)
+										.hasRootCauseMessage("The configuration parameter "
+												+ ResourceCleaner.CLEANUP_CONFIG_PARAM
+												+ " must be 'sync' or 'async', but was 'later'")));
+			}
+
+		}
+
+	}
+
+	@TestMethodOrder(MethodOrderer.OrderAnnotation.class)
+	static class AsyncCleanupTestCases {
+
+		@Test
+		@Order(1)
+		void newResource(@New(value = AsyncCleanupResourceFactory.class, arguments = "new") String resource) {
+			assertThat(resource).isEqualTo("new");
+		}
+
+		@Test
+		@Order(2)
+		void sharedResource(@Shared(factory = AsyncCleanupResourceFactory.class, name = "shared") String resource) {
+			assertThat(resource).isEqualTo("shared");
+		}
+
+	}
+
+	static final class AsyncCleanupResourceFactory implements ResourceFactory<String> {
+
+		static final List<String> events = new CopyOnWriteArrayList<>();
+		static final List<String> closingThreads = new CopyOnWriteArrayList<>();
+
+		private String name = "shared";
+
+		@Override
+		public Resource<String> create(List<String> arguments) {
+			if (!arguments.isEmpty())
+				name = arguments.get(0);
+			return new Resource<>() {
+
+				@Override
+				public String get() {
+					return name;
+				}
+
+				@Override
+				public void close() throws Exception {
+					// closing slowly shows that the factory still waits for the resource
+					Thread.sleep(100);
+					record(name + " resource closed");
+				}
+
+			};
+		}
+
+		@Override
+		public void close() {
+			record(name + " factory closed");
+		}
+
+		private static void record(String event) {
+			events.add(event);
+			closingThreads.add(Thread.currentThread().getName());
+		}
+
+	}
+
+	// ---
+
+	@DisplayName("when resource metrics are enabled")
+	@Nested
+	class WhenResourceMetricsAreEnabledTests {
+
+		@DisplayName("then durations are published per test and summarized per resource at the end")
+		@Test
+		void thenDurationsArePublishedAndSummarized() {
+			ExecutionResults results = executeTestClassWithConfigurationParameters(
+				Map.of(ResourceMetrics.METRICS_CONFIG_PARAM, "true"), MetricsTestCases.class);
+
+			assertThat(results).hasSingleSucceededTest();
+			assertThat(results)
+					.hasNumberOfReportEntries(7)
+					.keys()
+					.containsExactlyInAnyOrder( //
+						"creating @New(DummyResourceFactory)", //
+						"getting @New(DummyResourceFactory)", //
+						"creating @Shared(\"metrics\", SOURCE_FILE)", //
+						"getting @Shared(\"metrics\", SOURCE_FILE)", //
+						"waiting for the lock of @Shared(\"metrics\", SOURCE_FILE)", //
+						"resource metrics for @New(DummyResourceFactory)", //
+						"resource metrics for @Shared(\"metrics\", SOURCE_FILE)");
+		}
+
+		@DisplayName("then the summary includes how long closing the resources took")
+		@Test
+		void thenSummaryIncludesClosing() {
+			ExecutionResults results = executeTestClassWithConfigurationParameters(
+				Map.of(ResourceMetrics.METRICS_CONFIG_PARAM, "true"), MetricsTestCases.class);
+
+			assertThat(results)
+					.hasNumberOfReportEntries(7)
+					.asserting(entry -> !entry.getKey().startsWith("resource metrics for ")
+							|| entry.getValue().matches("creating: 1x, .*; getting: 1x, .*; closing: 1x, .*"));
+		}
+
+	}
+
+	static class MetricsTestCases {
+
+		@Test
+		@SuppressWarnings("unused")
+		void test(@New(DummyResourceFactory.class) String newResource,
+				@Shared(factory = DummyResourceFactory.class, name = "metrics") String sharedResource) {
+
+		}
+
+	}
+
 }
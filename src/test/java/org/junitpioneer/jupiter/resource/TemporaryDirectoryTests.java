@@ -21,16 +21,20 @@ import static org.junitpioneer.jupiter.resource.Shared.Scope.GLOBAL;
 import static org.junitpioneer.jupiter.resource.Shared.Scope.SOURCE_FILE;
 import static org.junitpioneer.testkit.assertion.PioneerAssert.assertThat;
 
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.List;
+import java.util.Map;
 import java.util.concurrent.CopyOnWriteArrayList;
 
 import org.assertj.core.api.Assertions;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtensionConfigurationException;
 import org.junit.jupiter.api.extension.ParameterResolutionException;
+import org.junit.jupiter.api.io.TempDir;
 import org.junitpioneer.testkit.ExecutionResults;
 import org.junitpioneer.testkit.PioneerTestKit;
 
@@ -245,7 +249,7 @@ class TemporaryDirectoryTests {
 								message("Unable to create a resource from `" + TemporaryDirectory.class.getTypeName()
 										+ "`"),
 								cause(instanceOf(IllegalArgumentException.class),
-									message("Expected 0 or 1 arguments, but got 2")))));
+									message("Expected 0, 1, or 2 arguments, but got 3")))));
 		}
 
 	}
@@ -253,7 +257,7 @@ class TemporaryDirectoryTests {
 	static class NewTempDirWithWrongNumberOfArgumentsTestCases {
 
 		@Test
-		void theTest(@New(value = TemporaryDirectory.class, arguments = { "1", "2" }) Path tempDir) {
+		void theTest(@New(value = TemporaryDirectory.class, arguments = { "1", "2", "3" }) Path tempDir) {
 			fail("We should not get this far.");
 		}
 
@@ -549,4 +553,288 @@ class TemporaryDirectoryTests {
 		Assertions.assertThat(TemporaryDirectory.class).isFinal();
 	}
 
+	// ---
+
+	@DisplayName("when a test class has multiple test methods with a "
+			+ "@Pooled(factory = TemporaryDirectory.class, name = \"some-name\", size = 1)-annotated parameter")
+	@Nested
+	class WhenTestClassHasMultipleTestMethodsWithPooledTempDirParameterTests {
+
+		@DisplayName("then the parameters are populated with the same temporary directory "
+				+ "that is emptied between tests and torn down afterwards")
+		@Test
+		void thenParametersArePopulatedWithSameTempDirThatIsEmptiedBetweenTestsAndTornDownAfterwards() {
+			ExecutionResults executionResults = PioneerTestKit
+					.executeTestClass(TwoTestMethodsWithPooledTempDirParameterTestCases.class);
+			assertThat(executionResults).hasNumberOfSucceededTests(2);
+			List<Path> paths = TwoTestMethodsWithPooledTempDirParameterTestCases.recordedPaths;
+			Assertions
+					.assertThat(paths)
+					.hasSize(2)
+					.allSatisfy(path -> Assertions.assertThat(path).isEqualTo(paths.get(0)))
+					.allSatisfy(path -> Assertions.assertThat(path).doesNotExist());
+		}
+
+	}
+
+	static class TwoTestMethodsWithPooledTempDirParameterTestCases {
+
+		static List<Path> recordedPaths = new CopyOnWriteArrayList<>();
+
+		@Test
+		void firstTest(@Pooled(factory = TemporaryDirectory.class, name = "some-name", size = 1) Path tempDir)
+				throws Exception {
+			Assertions.assertThat(tempDir).isEmptyDirectory();
+			Files.createDirectories(tempDir.resolve("sub").resolve("dir"));
+			Files.writeString(tempDir.resolve("sub").resolve("file.txt"), "first");
+
+			recordedPaths.add(tempDir);
+		}
+
+		@Test
+		void secondTest(@Pooled(factory = TemporaryDirectory.class, name = "some-name", size = 1) Path tempDir)
+				throws Exception {
+			Assertions.assertThat(tempDir).isEmptyDirectory();
+			Files.writeString(tempDir.resolve("file.txt"), "second");
+
+			recordedPaths.add(tempDir);
+		}
+
+	}
+
+	// ---
+
+	@DisplayName("when temporary directories are cleaned up asynchronously")
+	@Nested
+	class WhenTempDirsAreCleanedUpAsynchronouslyTests {
+
+		@DisplayName("then the directory trees are deleted by the end of the run")
+		@Test
+		void thenDirectoryTreesAreDeletedByEndOfRun() {
+			ExecutionResults executionResults = PioneerTestKit
+					.executeTestClassWithConfigurationParameters(
+						Map.of(ResourceCleaner.CLEANUP_CONFIG_PARAM, "async"),
+						NewTempDirWithDirectoryTreeTestCases.class);
+			assertThat(executionResults).hasSingleSucceededTest();
+			Assertions.assertThat(NewTempDirWithDirectoryTreeTestCases.recordedPath).doesNotExist();
+		}
+
+	}
+
+	static class NewTempDirWithDirectoryTreeTestCases {
+
+		static Path recordedPath;
+
+		@Test
+		void theTest(@New(TemporaryDirectory.class) Path tempDir) throws Exception {
+			for (int i = 0; i < 10; i++) {
+				Path subdir = Files.createDirectories(tempDir.resolve("sub-" + i).resolve("sub"));
+				Files.writeString(subdir.resolve("file.txt"), "content");
+			}
+
+			recordedPath = tempDir;
+		}
+
+	}
+
+	// ---
+
+	@DisplayName("when the deletion of temporary directories is deferred")
+	@Nested
+	class WhenDeletionOfTempDirsIsDeferredTests {
+
+		@DisplayName("then the directories are moved to the trash and deleted by the end of the run")
+		@Test
+		void thenDirectoriesAreDeletedByEndOfRun(@TempDir Path location) {
+			// a private location, so other test runs' directories and trash don't get in the way
+			Map<String, String> configuration = Map
+					.of(TemporaryDirectory.DELETION_CONFIG_PARAM, "deferred", TemporaryDirectory.LOCATION_CONFIG_PARAM,
+						location.toString());
+			ExecutionResults executionResults = PioneerTestKit
+					.executeTestClassWithConfigurationParameters(configuration,
+						NewTempDirWithDirectoryTreeTestCases.class);
+			assertThat(executionResults).hasSingleSucceededTest();
+			Path recordedPath = NewTempDirWithDirectoryTreeTestCases.recordedPath;
+			Assertions.assertThat(recordedPath).startsWith(location).doesNotExist();
+			// neither the directory nor the trash it was moved to are left
+			Assertions.assertThat(location).isEmptyDirectory();
+		}
+
+		@DisplayName("and the configuration parameter is invalid")
+		@Nested
+		class AndConfigurationParameterIsInvalidTests {
+
+			@DisplayName("then an exception is thrown")
+			@Test
+			void thenExceptionIsThrown() {
+				ExecutionResults executionResults = PioneerTestKit
+						.executeTestClassWithConfigurationParameters(
+							Map.of(TemporaryDirectory.DELETION_CONFIG_PARAM, "never"),
+							NewTempDirWithDirectoryTreeTestCases.class);
+				assertThat(executionResults)
+						.hasSingleFailedTest()
+						.withExceptionInstanceOf(ParameterResolutionException.class)
+						.hasRootCauseInstanceOf(ExtensionConfigurationException.class)
+						.hasRootCauseMessage("The configuration parameter " + TemporaryDirectory.DELETION_CONFIG_PARAM
+								+ " must be 'immediate' or 'deferred', but was 'never'");
+			}
+
+		}
+
+	}
+
+	// ---
+
+	@DisplayName("when a test class has test methods with a parameter annotated with "
+			+ "@New(value = TemporaryDirectory.class, arguments = {\"tempDirPrefix\", \"path/to/template\"})")
+	@Nested
+	class WhenTestClassHasTestMethodsWithNewTempDirWithTemplateTests {
+
+		@DisplayName("then the parameters are populated with new temporary directories seeded with the template")
+		@Test
+		void thenParametersArePopulatedWithNewTempDirsSeededWithTemplate() {
+			ExecutionResults executionResults = PioneerTestKit
+					.executeTestClass(NewTempDirWithTemplateTestCases.class);
+			assertThat(executionResults).hasNumberOfSucceededTests(2);
+			Assertions
+					.assertThat(NewTempDirWithTemplateTestCases.recordedPaths)
+					.hasSize(2)
+					.doesNotHaveDuplicates()
+					.allSatisfy(path -> Assertions.assertThat(path).doesNotExist());
+			Assertions
+					.assertThat(Paths.get(NewTempDirWithTemplateTestCases.TEMPLATE, "README.txt"))
+					.hasContent("A template for temporary directories.");
+		}
+
+		@DisplayName("and the template is not a directory")
+		@Nested
+		class AndTemplateIsNotDirectoryTests {
+
+			@DisplayName("then an exception mentioning the template is thrown")
+			@Test
+			void thenExceptionMentioningTemplateIsThrown() {
+				ExecutionResults executionResults = PioneerTestKit
+						.executeTestClass(NewTempDirWithMissingTemplateTestCases.class);
+				assertThat(executionResults)
+						.hasSingleFailedTest()
+						.withExceptionInstanceOf(ParameterResolutionException.class)
+						.hasRootCauseInstanceOf(IllegalArgumentException.class)
+						.hasRootCauseMessage("The template [does/not/exist] is not a directory");
+			}
+
+		}
+
+	}
+
+	static class NewTempDirWithTemplateTestCases {
+
+		static final String TEMPLATE = "build/resources/test/org/junitpioneer/jupiter/resource/template";
+
+		static List<Path> recordedPaths = new CopyOnWriteArrayList<>();
+
+		@Test
+		void firstTest(@New(value = TemporaryDirectory.class, arguments = { "seeded", TEMPLATE }) Path tempDir)
+				throws Exception {
+			assertSeeded(tempDir);
+			// changing the copy leaves the template and the other test's copy unchanged
+			Files.writeString(tempDir.resolve("README.txt"), "changed");
+
+			recordedPaths.add(tempDir);
+		}
+
+		@Test
+		void secondTest(@New(value = TemporaryDirectory.class, arguments = { "seeded", TEMPLATE }) Path tempDir)
+				throws Exception {
+			assertSeeded(tempDir);
+			Files.delete(tempDir.resolve("config").resolve("settings.properties"));
+
+			recordedPaths.add(tempDir);
+		}
+
+		private static void assertSeeded(Path tempDir) {
+			Assertions.assertThat(ROOT_TEMP_DIR.relativize(tempDir)).asString().startsWith("seeded");
+			Assertions.assertThat(tempDir.resolve("README.txt")).hasContent("A template for temporary directories.");
+			Assertions.assertThat(tempDir.resolve("config").resolve("settings.properties")).hasContent("mode=test");
+			Assertions
+					.assertThat(tempDir.resolve("data").resolve("nested").resolve("values.txt"))
+					.hasContent("first\nsecond");
+		}
+
+	}
+
+	static class NewTempDirWithMissingTemplateTestCases {
+
+		@Test
+		void theTest(@New(value = TemporaryDirectory.class, arguments = { "", "does/not/exist" }) Path tempDir) {
+			fail("We should not get this far.");
+		}
+
+	}
+
+	// ---
+
+	@DisplayName("when the location of temporary directories is configured")
+	@Nested
+	class WhenLocationOfTempDirsIsConfiguredTests {
+
+		@DisplayName("then the directories are created in that location")
+		@Test
+		void thenDirectoriesAreCreatedInThatLocation() throws Exception {
+			Path location = Files.createTempDirectory("location");
+			try {
+				ExecutionResults executionResults = PioneerTestKit
+						.executeTestClassWithConfigurationParameters(
+							Map.of(TemporaryDirectory.LOCATION_CONFIG_PARAM, location.toString()),
+							NewTempDirWithDirectoryTreeTestCases.class);
+				assertThat(executionResults).hasSingleSucceededTest();
+				Path recordedPath = NewTempDirWithDirectoryTreeTestCases.recordedPath;
+				Assertions.assertThat(recordedPath).startsWith(location).doesNotExist();
+			}
+			finally {
+				Files.delete(location);
+			}
+		}
+
+		@DisplayName("to memory, then the directories are created on a RAM disk, which must exist")
+		@Test
+		void thenDirectoriesAreCreatedOnRamDisk() {
+			ExecutionResults executionResults = PioneerTestKit
+					.executeTestClassWithConfigurationParameters(
+						Map.of(TemporaryDirectory.LOCATION_CONFIG_PARAM, "memory"),
+						NewTempDirWithDirectoryTreeTestCases.class);
+			if (Files.isDirectory(TemporaryDirectory.MEMORY_LOCATION)
+					&& Files.isWritable(TemporaryDirectory.MEMORY_LOCATION)) {
+				assertThat(executionResults).hasSingleSucceededTest();
+				Assertions
+						.assertThat(NewTempDirWithDirectoryTreeTestCases.recordedPath)
+						.startsWith(TemporaryDirectory.MEMORY_LOCATION);
+			}
+			else {
+				assertThat(executionResults)
+						.hasSingleFailedTest()
+						.withExceptionInstanceOf(ParameterResolutionException.class)
+						.hasRootCauseInstanceOf(ExtensionConfigurationException.class)
+						.hasRootCauseMessage("The configuration parameter " + TemporaryDirectory.LOCATION_CONFIG_PARAM
+								+ " is 'memory', but there is no writable RAM disk at "
+								+ TemporaryDirectory.MEMORY_LOCATION);
+			}
+		}
+
+		@DisplayName("to a path that isn't a directory, then an exception is thrown")
+		@Test
+		void thenExceptionIsThrown() {
+			ExecutionResults executionResults = PioneerTestKit
+					.executeTestClassWithConfigurationParameters(
+						Map.of(TemporaryDirectory.LOCATION_CONFIG_PARAM, "does/not/exist"),
+						NewTempDirWithDirectoryTreeTestCases.class);
+			assertThat(executionResults)
+					.hasSingleFailedTest()
+					.withExceptionInstanceOf(ParameterResolutionException.class)
+					.hasRootCauseInstanceOf(ExtensionConfigurationException.class)
+					.hasRootCauseMessage("The configuration parameter " + TemporaryDirectory.LOCATION_CONFIG_PARAM
+							+ " must be 'memory' or the path of an existing directory, but was 'does/not/exist'");
+		}
+
+	}
+
 }
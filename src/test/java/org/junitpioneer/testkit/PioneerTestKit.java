@@ -40,6 +40,23 @@ public class PioneerTestKit {
 		return ExecutionResults.builder().selectTestClasses(testClasses).execute();
 	}
 
+	/**
+	 * Returns the execution results of the given test class
+	 * and passes the additional configuration parameters.
+	 *
+	 * @param configurationParameters additional configuration parameters
+	 * @param testClass The test class instance
+	 * @return The execution results
+	 */
+	public static ExecutionResults executeTestClassWithConfigurationParameters(
+			Map<String, String> configurationParameters, Class<?> testClass) {
+		return ExecutionResults
+				.builder()
+				.addConfigurationParameters(configurationParameters)
+				.selectTestClass(testClass)
+				.execute();
+	}
+
 	/**
 	 * Returns the execution results of the given method of a given test class.
 	 *